@@ -18,14 +18,18 @@ CREATE TABLE dbo.users (
 CREATE UNIQUE INDEX IX_users_username ON dbo.users(username);
 CREATE UNIQUE INDEX IX_users_email ON dbo.users(email);
 
+-- Post, tag and comment ids come from sequences handed out in blocks of 50 (Hibernate pooled-lo),
+-- so inserts can be batched. The column defaults only serve ad-hoc SQL inserts.
+CREATE SEQUENCE dbo.posts_seq AS BIGINT START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE dbo.tags_seq AS BIGINT START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE dbo.comments_seq AS BIGINT START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE dbo.posts (
-    post_id            BIGINT IDENTITY(1,1) PRIMARY KEY,
+    post_id            BIGINT        NOT NULL CONSTRAINT DF_posts_post_id DEFAULT (NEXT VALUE FOR dbo.posts_seq) PRIMARY KEY,
     author_id          BIGINT        NOT NULL,
     title              NVARCHAR(200) NOT NULL,
     slug               NVARCHAR(220) NOT NULL,
     summary            NVARCHAR(500) NULL,
-    content_markdown   NVARCHAR(MAX) NOT NULL,
-    content_html       NVARCHAR(MAX) NULL,
     hero_image_url     NVARCHAR(400) NULL,
     is_pinned          BIT           NOT NULL DEFAULT 0,
     published_at       DATETIME2(0)  NULL,
@@ -35,19 +39,47 @@ CREATE TABLE dbo.posts (
     CONSTRAINT UQ_posts_slug UNIQUE (slug)
 );
 
-CREATE INDEX IX_posts_author_created ON dbo.posts(author_id, created_at DESC);
-CREATE INDEX IX_posts_published ON dbo.posts(published_at) WHERE published_at IS NOT NULL;
+CREATE INDEX IX_posts_author_updated ON dbo.posts(author_id, updated_at DESC, post_id DESC);
+CREATE INDEX IX_posts_published ON dbo.posts(published_at DESC, post_id DESC) WHERE published_at IS NOT NULL;
 CREATE INDEX IX_posts_is_pinned ON dbo.posts(is_pinned) WHERE is_pinned = 1;
 
+CREATE TABLE dbo.post_contents (
+    post_id            BIGINT        NOT NULL PRIMARY KEY,
+    content_markdown   NVARCHAR(MAX) NOT NULL,
+    content_html       NVARCHAR(MAX) NULL,
+    content_hash       VARCHAR(64)   NULL,
+    FOREIGN KEY (post_id) REFERENCES dbo.posts(post_id) ON DELETE CASCADE
+);
+
 CREATE TABLE dbo.post_metrics (
     post_id        BIGINT NOT NULL PRIMARY KEY,
     views_count    BIGINT NOT NULL DEFAULT 0,
     likes_count    BIGINT NOT NULL DEFAULT 0,
     last_view_at   DATETIME2(0) NULL,
     last_like_at   DATETIME2(0) NULL,
+    comments_count BIGINT NOT NULL DEFAULT 0,
+    last_comment_at DATETIME2(0) NULL,
     FOREIGN KEY (post_id) REFERENCES dbo.posts(post_id) ON DELETE CASCADE
 );
 
+CREATE TABLE dbo.author_stats (
+    author_id          BIGINT NOT NULL PRIMARY KEY,
+    posts_count        BIGINT NOT NULL DEFAULT 0,
+    views_count        BIGINT NOT NULL DEFAULT 0,
+    likes_count        BIGINT NOT NULL DEFAULT 0,
+    comments_received  BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (author_id) REFERENCES dbo.users(user_id) ON DELETE CASCADE
+);
+
+-- Checkpoint of the in-memory trending scores; rows for deleted posts are simply ignored.
+CREATE TABLE dbo.post_trending_scores (
+    post_id      BIGINT       NOT NULL PRIMARY KEY,
+    day_score    FLOAT        NOT NULL,
+    week_score   FLOAT        NOT NULL,
+    month_score  FLOAT        NOT NULL,
+    scored_at    DATETIME2(3) NOT NULL
+);
+
 CREATE TABLE dbo.post_likes (
     post_id     BIGINT NOT NULL,
     user_id     BIGINT NOT NULL,
@@ -58,7 +90,7 @@ CREATE TABLE dbo.post_likes (
 );
 
 CREATE TABLE dbo.tags (
-    tag_id      BIGINT IDENTITY(1,1) PRIMARY KEY,
+    tag_id      BIGINT        NOT NULL CONSTRAINT DF_tags_tag_id DEFAULT (NEXT VALUE FOR dbo.tags_seq) PRIMARY KEY,
     name        NVARCHAR(80)  NOT NULL,
     slug        NVARCHAR(80)  NOT NULL,
     description NVARCHAR(300) NULL,
@@ -74,16 +106,30 @@ CREATE TABLE dbo.post_tags (
     FOREIGN KEY (tag_id)  REFERENCES dbo.tags(tag_id) ON DELETE CASCADE
 );
 
-CREATE INDEX IX_post_tags_tag ON dbo.post_tags(tag_id);
+CREATE INDEX IX_post_tags_tag ON dbo.post_tags(tag_id, post_id DESC);
+
+CREATE TABLE dbo.tag_stats (
+    tag_id     BIGINT NOT NULL PRIMARY KEY,
+    post_count BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (tag_id) REFERENCES dbo.tags(tag_id) ON DELETE CASCADE
+);
+
+CREATE INDEX IX_tag_stats_post_count ON dbo.tag_stats(post_count DESC);
 
 CREATE TABLE dbo.comments (
-    comment_id          BIGINT IDENTITY(1,1) PRIMARY KEY,
+    comment_id          BIGINT        NOT NULL CONSTRAINT DF_comments_comment_id DEFAULT (NEXT VALUE FOR dbo.comments_seq) PRIMARY KEY,
     post_id             BIGINT        NOT NULL,
     author_id           BIGINT        NOT NULL,
     parent_comment_id   BIGINT        NULL,
     body_markdown       NVARCHAR(MAX) NOT NULL,
     body_html           NVARCHAR(MAX) NULL,
     is_deleted          BIT           NOT NULL DEFAULT 0,
+    like_count          BIGINT        NOT NULL CONSTRAINT DF_comments_like_count DEFAULT 0,
+    heart_count         BIGINT        NOT NULL CONSTRAINT DF_comments_heart_count DEFAULT 0,
+    laugh_count         BIGINT        NOT NULL CONSTRAINT DF_comments_laugh_count DEFAULT 0,
+    wow_count           BIGINT        NOT NULL CONSTRAINT DF_comments_wow_count DEFAULT 0,
+    sad_count           BIGINT        NOT NULL CONSTRAINT DF_comments_sad_count DEFAULT 0,
+    celebrate_count     BIGINT        NOT NULL CONSTRAINT DF_comments_celebrate_count DEFAULT 0,
     created_at          DATETIME2(0)  NOT NULL DEFAULT SYSUTCDATETIME(),
     updated_at          DATETIME2(0)  NOT NULL DEFAULT SYSUTCDATETIME(),
     FOREIGN KEY (post_id) REFERENCES dbo.posts(post_id) ON DELETE CASCADE,
@@ -92,6 +138,8 @@ CREATE TABLE dbo.comments (
 );
 
 CREATE INDEX IX_comments_post_created ON dbo.comments(post_id, created_at DESC);
+CREATE INDEX IX_comments_parent_created ON dbo.comments(parent_comment_id, created_at, comment_id)
+    WHERE parent_comment_id IS NOT NULL;
 CREATE INDEX IX_comments_author ON dbo.comments(author_id);
 
 CREATE TABLE dbo.comment_reactions (
@@ -100,6 +148,7 @@ CREATE TABLE dbo.comment_reactions (
     reaction     VARCHAR(20) NOT NULL DEFAULT 'like',
     reacted_at   DATETIME2(0) NOT NULL DEFAULT SYSUTCDATETIME(),
     PRIMARY KEY (comment_id, user_id, reaction),
+    CONSTRAINT CK_comment_reactions_reaction CHECK (reaction IN ('like', 'heart', 'laugh', 'wow', 'sad', 'celebrate')),
     FOREIGN KEY (comment_id) REFERENCES dbo.comments(comment_id) ON DELETE CASCADE,
     FOREIGN KEY (user_id)    REFERENCES dbo.users(user_id) ON DELETE CASCADE
 );
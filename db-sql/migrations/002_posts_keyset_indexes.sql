@@ -0,0 +1,7 @@
+-- Align post listing indexes with the keyset sort orders used by /api/posts and /api/posts/me.
+
+DROP INDEX IX_posts_author_created ON dbo.posts;
+CREATE INDEX IX_posts_author_updated ON dbo.posts(author_id, updated_at DESC, post_id DESC);
+
+DROP INDEX IX_posts_published ON dbo.posts;
+CREATE INDEX IX_posts_published ON dbo.posts(published_at DESC, post_id DESC) WHERE published_at IS NOT NULL;
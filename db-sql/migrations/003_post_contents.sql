@@ -0,0 +1,14 @@
+-- Move post bodies out of dbo.posts so listing queries never read NVARCHAR(MAX) columns.
+
+CREATE TABLE dbo.post_contents (
+    post_id            BIGINT        NOT NULL PRIMARY KEY,
+    content_markdown   NVARCHAR(MAX) NOT NULL,
+    content_html       NVARCHAR(MAX) NULL,
+    FOREIGN KEY (post_id) REFERENCES dbo.posts(post_id) ON DELETE CASCADE
+);
+
+INSERT INTO dbo.post_contents (post_id, content_markdown, content_html)
+SELECT post_id, content_markdown, content_html
+FROM dbo.posts;
+
+ALTER TABLE dbo.posts DROP COLUMN content_markdown, content_html;
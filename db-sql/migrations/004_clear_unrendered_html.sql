@@ -0,0 +1,6 @@
+-- Until now the html columns held a raw copy of the markdown. Clear them so the startup backfill
+-- re-renders every row through the server-side renderer and clients can trust stored html.
+
+UPDATE dbo.post_contents SET content_html = NULL;
+
+UPDATE dbo.comments SET body_html = NULL WHERE is_deleted = 0;
@@ -0,0 +1,19 @@
+-- Tag filtered listings seek post_tags by (tag_id, post_id); tag post counts are kept in tag_stats
+-- instead of grouping the whole join table.
+
+DROP INDEX IX_post_tags_tag ON dbo.post_tags;
+CREATE INDEX IX_post_tags_tag ON dbo.post_tags(tag_id, post_id DESC);
+
+CREATE TABLE dbo.tag_stats (
+    tag_id     BIGINT NOT NULL PRIMARY KEY,
+    post_count BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (tag_id) REFERENCES dbo.tags(tag_id) ON DELETE CASCADE
+);
+
+INSERT INTO dbo.tag_stats (tag_id, post_count)
+SELECT t.tag_id, COUNT(pt.post_id)
+FROM dbo.tags t
+LEFT JOIN dbo.post_tags pt ON pt.tag_id = t.tag_id
+GROUP BY t.tag_id;
+
+CREATE INDEX IX_tag_stats_post_count ON dbo.tag_stats(post_count DESC);
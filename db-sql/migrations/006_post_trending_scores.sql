@@ -0,0 +1,9 @@
+-- Trending scores live in memory; this table only holds periodic checkpoints so a restart keeps them.
+
+CREATE TABLE dbo.post_trending_scores (
+    post_id      BIGINT       NOT NULL PRIMARY KEY,
+    day_score    FLOAT        NOT NULL,
+    week_score   FLOAT        NOT NULL,
+    month_score  FLOAT        NOT NULL,
+    scored_at    DATETIME2(3) NOT NULL
+);
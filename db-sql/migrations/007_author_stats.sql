@@ -0,0 +1,26 @@
+-- Per-author totals for My Page, maintained incrementally instead of aggregating post_metrics per request.
+
+CREATE TABLE dbo.author_stats (
+    author_id          BIGINT NOT NULL PRIMARY KEY,
+    posts_count        BIGINT NOT NULL DEFAULT 0,
+    views_count        BIGINT NOT NULL DEFAULT 0,
+    likes_count        BIGINT NOT NULL DEFAULT 0,
+    comments_received  BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (author_id) REFERENCES dbo.users(user_id) ON DELETE CASCADE
+);
+
+INSERT INTO dbo.author_stats (author_id, posts_count, views_count, likes_count, comments_received)
+SELECT p.author_id,
+       COUNT(*),
+       COALESCE(SUM(m.views_count), 0),
+       COALESCE(SUM(m.likes_count), 0),
+       COALESCE(SUM(c.comments), 0)
+FROM dbo.posts p
+LEFT JOIN dbo.post_metrics m ON m.post_id = p.post_id
+LEFT JOIN (
+    SELECT post_id, COUNT(*) AS comments
+    FROM dbo.comments
+    WHERE is_deleted = 0
+    GROUP BY post_id
+) c ON c.post_id = p.post_id
+GROUP BY p.author_id;
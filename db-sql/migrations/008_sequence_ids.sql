@@ -0,0 +1,109 @@
+-- Move posts, tags and comments from IDENTITY to sequence ids so Hibernate can batch inserts (pooled-lo,
+-- 50 ids per sequence value). SQL Server cannot drop the IDENTITY property in place, so each table is
+-- rebuilt: foreign keys touching the three tables are dropped, rows are copied into a new table and the
+-- keys, indexes and constraints are recreated. Run during a maintenance window with sqlcmd -b, so a
+-- failing batch stops the script instead of running the rest outside the rolled back transaction.
+
+SET XACT_ABORT ON;
+BEGIN TRANSACTION;
+
+DECLARE @sql NVARCHAR(MAX) = N'';
+SELECT @sql += N'ALTER TABLE ' + QUOTENAME(OBJECT_SCHEMA_NAME(fk.parent_object_id)) + N'.'
+        + QUOTENAME(OBJECT_NAME(fk.parent_object_id)) + N' DROP CONSTRAINT ' + QUOTENAME(fk.name) + N';'
+FROM sys.foreign_keys fk
+WHERE fk.referenced_object_id IN (OBJECT_ID(N'dbo.posts'), OBJECT_ID(N'dbo.tags'), OBJECT_ID(N'dbo.comments'))
+   OR fk.parent_object_id IN (OBJECT_ID(N'dbo.posts'), OBJECT_ID(N'dbo.tags'), OBJECT_ID(N'dbo.comments'));
+EXEC sys.sp_executesql @sql;
+
+-- Named constraints are schema scoped and would collide with the rebuilt tables.
+ALTER TABLE dbo.posts DROP CONSTRAINT UQ_posts_slug;
+ALTER TABLE dbo.posts DROP CONSTRAINT DF_posts_created_at;
+ALTER TABLE dbo.posts DROP CONSTRAINT DF_posts_updated_at;
+ALTER TABLE dbo.tags DROP CONSTRAINT UQ_tags_slug;
+
+EXEC sys.sp_rename N'dbo.posts', N'posts_identity';
+EXEC sys.sp_rename N'dbo.tags', N'tags_identity';
+EXEC sys.sp_rename N'dbo.comments', N'comments_identity';
+GO
+
+DECLARE @postsStart BIGINT = (SELECT ISNULL(MAX(post_id), 0) + 1 FROM dbo.posts_identity);
+DECLARE @tagsStart BIGINT = (SELECT ISNULL(MAX(tag_id), 0) + 1 FROM dbo.tags_identity);
+DECLARE @commentsStart BIGINT = (SELECT ISNULL(MAX(comment_id), 0) + 1 FROM dbo.comments_identity);
+EXEC (N'CREATE SEQUENCE dbo.posts_seq AS BIGINT START WITH ' + CAST(@postsStart AS NVARCHAR(20)) + N' INCREMENT BY 50;');
+EXEC (N'CREATE SEQUENCE dbo.tags_seq AS BIGINT START WITH ' + CAST(@tagsStart AS NVARCHAR(20)) + N' INCREMENT BY 50;');
+EXEC (N'CREATE SEQUENCE dbo.comments_seq AS BIGINT START WITH ' + CAST(@commentsStart AS NVARCHAR(20)) + N' INCREMENT BY 50;');
+GO
+
+CREATE TABLE dbo.posts (
+    post_id            BIGINT        NOT NULL CONSTRAINT DF_posts_post_id DEFAULT (NEXT VALUE FOR dbo.posts_seq) PRIMARY KEY,
+    author_id          BIGINT        NOT NULL,
+    title              NVARCHAR(200) NOT NULL,
+    slug               NVARCHAR(220) NOT NULL,
+    summary            NVARCHAR(500) NULL,
+    hero_image_url     NVARCHAR(400) NULL,
+    is_pinned          BIT           NOT NULL DEFAULT 0,
+    published_at       DATETIME2(0)  NULL,
+    created_at         DATETIME2(0)  NOT NULL CONSTRAINT DF_posts_created_at DEFAULT SYSUTCDATETIME(),
+    updated_at         DATETIME2(0)  NOT NULL CONSTRAINT DF_posts_updated_at DEFAULT SYSUTCDATETIME()
+);
+
+INSERT INTO dbo.posts (post_id, author_id, title, slug, summary, hero_image_url, is_pinned, published_at, created_at, updated_at)
+SELECT post_id, author_id, title, slug, summary, hero_image_url, is_pinned, published_at, created_at, updated_at
+FROM dbo.posts_identity;
+
+CREATE TABLE dbo.tags (
+    tag_id      BIGINT        NOT NULL CONSTRAINT DF_tags_tag_id DEFAULT (NEXT VALUE FOR dbo.tags_seq) PRIMARY KEY,
+    name        NVARCHAR(80)  NOT NULL,
+    slug        NVARCHAR(80)  NOT NULL,
+    description NVARCHAR(300) NULL,
+    created_at  DATETIME2(0)  NOT NULL DEFAULT SYSUTCDATETIME()
+);
+
+INSERT INTO dbo.tags (tag_id, name, slug, description, created_at)
+SELECT tag_id, name, slug, description, created_at
+FROM dbo.tags_identity;
+
+CREATE TABLE dbo.comments (
+    comment_id          BIGINT        NOT NULL CONSTRAINT DF_comments_comment_id DEFAULT (NEXT VALUE FOR dbo.comments_seq) PRIMARY KEY,
+    post_id             BIGINT        NOT NULL,
+    author_id           BIGINT        NOT NULL,
+    parent_comment_id   BIGINT        NULL,
+    body_markdown       NVARCHAR(MAX) NOT NULL,
+    body_html           NVARCHAR(MAX) NULL,
+    is_deleted          BIT           NOT NULL DEFAULT 0,
+    created_at          DATETIME2(0)  NOT NULL DEFAULT SYSUTCDATETIME(),
+    updated_at          DATETIME2(0)  NOT NULL DEFAULT SYSUTCDATETIME()
+);
+
+INSERT INTO dbo.comments (comment_id, post_id, author_id, parent_comment_id, body_markdown, body_html, is_deleted, created_at, updated_at)
+SELECT comment_id, post_id, author_id, parent_comment_id, body_markdown, body_html, is_deleted, created_at, updated_at
+FROM dbo.comments_identity;
+
+DROP TABLE dbo.comments_identity;
+DROP TABLE dbo.tags_identity;
+DROP TABLE dbo.posts_identity;
+
+ALTER TABLE dbo.posts ADD CONSTRAINT UQ_posts_slug UNIQUE (slug);
+ALTER TABLE dbo.posts ADD CONSTRAINT FK_posts_author FOREIGN KEY (author_id) REFERENCES dbo.users(user_id);
+CREATE INDEX IX_posts_author_updated ON dbo.posts(author_id, updated_at DESC, post_id DESC);
+CREATE INDEX IX_posts_published ON dbo.posts(published_at DESC, post_id DESC) WHERE published_at IS NOT NULL;
+CREATE INDEX IX_posts_is_pinned ON dbo.posts(is_pinned) WHERE is_pinned = 1;
+
+ALTER TABLE dbo.tags ADD CONSTRAINT UQ_tags_slug UNIQUE (slug);
+
+ALTER TABLE dbo.comments ADD FOREIGN KEY (post_id) REFERENCES dbo.posts(post_id) ON DELETE CASCADE;
+ALTER TABLE dbo.comments ADD FOREIGN KEY (author_id) REFERENCES dbo.users(user_id) ON DELETE NO ACTION;
+ALTER TABLE dbo.comments ADD FOREIGN KEY (parent_comment_id) REFERENCES dbo.comments(comment_id) ON DELETE NO ACTION;
+CREATE INDEX IX_comments_post_created ON dbo.comments(post_id, created_at DESC);
+CREATE INDEX IX_comments_author ON dbo.comments(author_id);
+
+ALTER TABLE dbo.post_contents ADD FOREIGN KEY (post_id) REFERENCES dbo.posts(post_id) ON DELETE CASCADE;
+ALTER TABLE dbo.post_metrics ADD FOREIGN KEY (post_id) REFERENCES dbo.posts(post_id) ON DELETE CASCADE;
+ALTER TABLE dbo.post_likes ADD FOREIGN KEY (post_id) REFERENCES dbo.posts(post_id) ON DELETE CASCADE;
+ALTER TABLE dbo.post_tags ADD FOREIGN KEY (post_id) REFERENCES dbo.posts(post_id) ON DELETE CASCADE;
+ALTER TABLE dbo.post_tags ADD FOREIGN KEY (tag_id) REFERENCES dbo.tags(tag_id) ON DELETE CASCADE;
+ALTER TABLE dbo.tag_stats ADD FOREIGN KEY (tag_id) REFERENCES dbo.tags(tag_id) ON DELETE CASCADE;
+ALTER TABLE dbo.comment_reactions ADD FOREIGN KEY (comment_id) REFERENCES dbo.comments(comment_id) ON DELETE CASCADE;
+
+COMMIT TRANSACTION;
+GO
@@ -0,0 +1,5 @@
+-- SHA-256 (hex, over the UTF-8 markdown) of each post body, so edits that keep the body skip rewriting
+-- the NVARCHAR(MAX) columns. Existing rows are hashed by the application on their next edit; HASHBYTES
+-- would hash the UTF-16 form and never match.
+
+ALTER TABLE dbo.post_contents ADD content_hash VARCHAR(64) NULL;
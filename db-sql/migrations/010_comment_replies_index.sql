@@ -0,0 +1,5 @@
+-- Root comment pages seek IX_comments_post_created; reply pages and the per-root reply previews seek
+-- by parent in the same (created_at, comment_id) order.
+
+CREATE INDEX IX_comments_parent_created ON dbo.comments(parent_comment_id, created_at, comment_id)
+    WHERE parent_comment_id IS NOT NULL;
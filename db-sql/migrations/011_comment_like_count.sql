@@ -0,0 +1,16 @@
+-- Denormalized like counter on each comment, moved together with the comment_reactions row so reads never
+-- aggregate. The application repairs drift on a schedule. Run with `sqlcmd -b`.
+
+ALTER TABLE dbo.comments ADD like_count BIGINT NOT NULL CONSTRAINT DF_comments_like_count DEFAULT 0;
+GO
+
+UPDATE c
+SET like_count = r.likes
+FROM dbo.comments c
+JOIN (
+    SELECT comment_id, COUNT(*) AS likes
+    FROM dbo.comment_reactions
+    WHERE reaction = 'like'
+    GROUP BY comment_id
+) r ON r.comment_id = c.comment_id;
+GO
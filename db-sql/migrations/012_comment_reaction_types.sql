@@ -0,0 +1,15 @@
+-- Reaction types beyond 'like'. Each type has its own counter column on the comment, so a thread's
+-- histograms come back with the comment rows. The CHECK list and the columns follow
+-- CommentReactionType and grow together. Run with `sqlcmd -b`.
+
+ALTER TABLE dbo.comments ADD
+    heart_count     BIGINT NOT NULL CONSTRAINT DF_comments_heart_count DEFAULT 0,
+    laugh_count     BIGINT NOT NULL CONSTRAINT DF_comments_laugh_count DEFAULT 0,
+    wow_count       BIGINT NOT NULL CONSTRAINT DF_comments_wow_count DEFAULT 0,
+    sad_count       BIGINT NOT NULL CONSTRAINT DF_comments_sad_count DEFAULT 0,
+    celebrate_count BIGINT NOT NULL CONSTRAINT DF_comments_celebrate_count DEFAULT 0;
+GO
+
+ALTER TABLE dbo.comment_reactions ADD CONSTRAINT CK_comment_reactions_reaction
+    CHECK (reaction IN ('like', 'heart', 'laugh', 'wow', 'sad', 'celebrate'));
+GO
@@ -0,0 +1,27 @@
+-- Live comment count and newest live comment time on each post's metrics row, kept by the application as
+-- comments are created, deleted and restored so post lists never count comments. Run with `sqlcmd -b`.
+
+ALTER TABLE dbo.post_metrics ADD
+    comments_count  BIGINT       NOT NULL CONSTRAINT DF_post_metrics_comments_count DEFAULT 0,
+    last_comment_at DATETIME2(0) NULL;
+GO
+
+UPDATE m
+SET comments_count = c.comments,
+    last_comment_at = c.last_comment_at
+FROM dbo.post_metrics m
+JOIN (
+    SELECT post_id, COUNT(*) AS comments, MAX(created_at) AS last_comment_at
+    FROM dbo.comments
+    WHERE is_deleted = 0
+    GROUP BY post_id
+) c ON c.post_id = m.post_id;
+GO
+
+INSERT INTO dbo.post_metrics (post_id, views_count, likes_count, comments_count, last_comment_at)
+SELECT c.post_id, 0, 0, COUNT(*), MAX(c.created_at)
+FROM dbo.comments c
+WHERE c.is_deleted = 0
+  AND NOT EXISTS (SELECT 1 FROM dbo.post_metrics m WHERE m.post_id = c.post_id)
+GROUP BY c.post_id;
+GO
@@ -1,12 +1,18 @@
 package com.developersnest.devnestbackend;
 
 import com.developersnest.devnestbackend.auth.config.AuthProperties;
+import com.developersnest.devnestbackend.comments.config.CommentProperties;
+import com.developersnest.devnestbackend.posts.config.PostProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableConfigurationProperties(AuthProperties.class)
+@EnableConfigurationProperties({AuthProperties.class, CommentProperties.class, PostProperties.class})
+@EnableAsync
+@EnableScheduling
 public class DevNestBackendApplication {
 
     public static void main(String[] args) {
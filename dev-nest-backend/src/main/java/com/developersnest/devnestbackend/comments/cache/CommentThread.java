@@ -0,0 +1,157 @@
+package com.developersnest.devnestbackend.comments.cache;
+
+import com.developersnest.devnestbackend.comments.dto.CommentResponse.AuthorInfo;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assembled comment structure of one post: every comment once by id, plus the root list and one reply list
+ * per parent, each in thread order (oldest first). Viewer-independent; callers overlay the viewer's reactions.
+ */
+public final class CommentThread {
+
+    private static final Comparator<Node> THREAD_ORDER =
+            Comparator.comparing(Node::createdAt).thenComparing(Node::id);
+    private static final int NODE_OVERHEAD = 96;
+
+    private final Map<Long, Node> nodes = new HashMap<>();
+    private final List<Long> roots = new ArrayList<>();
+    private final Map<Long, List<Long>> replies = new HashMap<>();
+    private long visibleCount;
+    private long textLength;
+
+    private CommentThread() {
+    }
+
+    /**
+     * Builds the thread in a single pass. Replies are filed under their parent id whether or not the parent
+     * has been seen yet, so no recursion or second pass is needed however deep the chains go.
+     *
+     * @param ordered every comment of the post, in thread order
+     */
+    static CommentThread assemble(List<Node> ordered) {
+        CommentThread thread = new CommentThread();
+        for (Node node : ordered) {
+            thread.nodes.put(node.id(), node);
+            thread.siblings(node.parentId()).add(node.id());
+            thread.account(node, 1);
+        }
+        return thread;
+    }
+
+    /**
+     * Adds {@code node}, or replaces the comment with the same id in place.
+     */
+    synchronized void upsert(Node node) {
+        Node previous = nodes.put(node.id(), node);
+        if (previous != null) {
+            account(previous, -1);
+        } else {
+            List<Long> siblings = siblings(node.parentId());
+            int position = Collections.binarySearch(siblings, node.id(), (left, right) ->
+                    THREAD_ORDER.compare(nodes.get(left), nodes.get(right)));
+            siblings.add(position >= 0 ? position : -position - 1, node.id());
+        }
+        account(node, 1);
+    }
+
+    /**
+     * Root comments after the cursor, each with its first {@code previewSize} replies.
+     */
+    public synchronized Slice roots(LocalDateTime afterCreatedAt, Long afterId, int size, int previewSize) {
+        return slice(roots, afterCreatedAt, afterId, size, previewSize);
+    }
+
+    /**
+     * Direct replies to {@code parentId} after the cursor.
+     */
+    public synchronized Slice replies(Long parentId, LocalDateTime afterCreatedAt, Long afterId, int size) {
+        return slice(replies.getOrDefault(parentId, List.of()), afterCreatedAt, afterId, size, 0);
+    }
+
+    /**
+     * Comments of the post that are not deleted.
+     */
+    public synchronized long visibleCount() {
+        return visibleCount;
+    }
+
+    synchronized int weight() {
+        long weight = textLength + (long) nodes.size() * NODE_OVERHEAD;
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private Slice slice(List<Long> ids, LocalDateTime afterCreatedAt, Long afterId, int size, int previewSize) {
+        int from = afterCreatedAt != null && afterId != null ? firstAfter(ids, afterCreatedAt, afterId) : 0;
+        int to = Math.min(ids.size(), from + size);
+        List<Item> items = new ArrayList<>(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) {
+            Node node = nodes.get(ids.get(i));
+            List<Long> childIds = replies.getOrDefault(node.id(), List.of());
+            List<Item> preview = childIds.subList(0, Math.min(previewSize, childIds.size())).stream()
+                    .map(childId -> new Item(nodes.get(childId), replies.getOrDefault(childId, List.of()).size(), List.of()))
+                    .toList();
+            items.add(new Item(node, childIds.size(), preview));
+        }
+        return new Slice(items, to < ids.size());
+    }
+
+    private int firstAfter(List<Long> ids, LocalDateTime createdAt, Long id) {
+        int low = 0;
+        int high = ids.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Node node = nodes.get(ids.get(mid));
+            int order = node.createdAt().compareTo(createdAt);
+            if (order < 0 || (order == 0 && node.id() <= id)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private List<Long> siblings(Long parentId) {
+        return parentId == null ? roots : replies.computeIfAbsent(parentId, key -> new ArrayList<>());
+    }
+
+    private void account(Node node, int sign) {
+        visibleCount += node.deleted() ? 0 : sign;
+        textLength += (long) sign * (length(node.bodyMarkdown()) + length(node.bodyHtml()));
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    /**
+     * One comment. {@code reactions} is its histogram, indexed by reaction type ordinal.
+     */
+    public record Node(
+            Long id,
+            Long parentId,
+            boolean deleted,
+            String bodyMarkdown,
+            String bodyHtml,
+            AuthorInfo author,
+            long[] reactions,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+    }
+
+    /**
+     * A comment with its total number of direct replies and the replies included with it.
+     */
+    public record Item(Node comment, int replyCount, List<Item> replies) {
+    }
+
+    public record Slice(List<Item> items, boolean hasMore) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.developersnest.devnestbackend.comments.cache;
+
+import com.developersnest.devnestbackend.comments.cache.CommentThread.Node;
+import com.developersnest.devnestbackend.comments.config.CommentProperties;
+import com.developersnest.devnestbackend.comments.dto.CommentResponse.AuthorInfo;
+import com.developersnest.devnestbackend.comments.repository.CommentRepository;
+import com.developersnest.devnestbackend.comments.repository.CommentRepository.ThreadRow;
+import com.developersnest.devnestbackend.posts.event.PostChangedEvent;
+import com.developersnest.devnestbackend.posts.event.PostCommentsChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Post-keyed cache of assembled comment threads, bounded by the amount of comment text held.
+ *
+ * <p>Threads are patched in place after each comment or reaction commit: the one changed comment is re-read
+ * and upserted. Patches run inside the cache's compute for the post, so they wait for an in-flight load and
+ * for each other, and the re-read always observes at least the commit that triggered it.
+ */
+@Component
+public class CommentThreadCache {
+
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private final Cache<Long, CommentThread> cache;
+    private final CommentRepository commentRepository;
+
+    public CommentThreadCache(
+            CommentProperties properties,
+            CommentRepository commentRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.commentRepository = commentRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getThreadCacheMaxWeight())
+                .weigher((Long postId, CommentThread thread) -> ENTRY_OVERHEAD + thread.weight())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "commentThreads");
+    }
+
+    public CommentThread get(Long postId) {
+        return cache.get(postId, this::load);
+    }
+
+    // Patch before ReadVersions moves the comment tag, so a fresh tag is never paired with a stale thread.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentsChanged(PostCommentsChangedEvent event) {
+        cache.asMap().computeIfPresent(event.postId(), (postId, thread) -> {
+            ThreadRow row = commentRepository.findThreadRow(event.commentId()).orElse(null);
+            if (row == null) {
+                // Comments are only removed with their post; rebuild on next read rather than guess.
+                return null;
+            }
+            thread.upsert(toNode(row));
+            return thread;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            cache.invalidate(event.postId());
+        }
+    }
+
+    /**
+     * Drops every cached thread, for when counters were rewritten behind the patch path.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private CommentThread load(Long postId) {
+        return CommentThread.assemble(commentRepository.findThreadRows(postId).stream()
+                .map(CommentThreadCache::toNode)
+                .toList());
+    }
+
+    private static Node toNode(ThreadRow row) {
+        return new Node(
+                row.getId(),
+                row.getParentId(),
+                row.isDeleted(),
+                row.getBodyMarkdown(),
+                row.getBodyHtml(),
+                new AuthorInfo(row.getAuthorId(), row.getAuthorUsername(), row.getAuthorDisplayName()),
+                row.toHistogram(),
+                row.getCreatedAt(),
+                row.getUpdatedAt()
+        );
+    }
+}
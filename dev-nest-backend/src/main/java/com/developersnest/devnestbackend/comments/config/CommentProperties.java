@@ -0,0 +1,20 @@
+package com.developersnest.devnestbackend.comments.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "devnest.comments")
+public class CommentProperties {
+
+    /**
+     * Upper bound of the per-post comment thread cache, weighed by the characters each thread holds.
+     */
+    private long threadCacheMaxWeight = 32L * 1024 * 1024;
+
+    public long getThreadCacheMaxWeight() {
+        return threadCacheMaxWeight;
+    }
+
+    public void setThreadCacheMaxWeight(long threadCacheMaxWeight) {
+        this.threadCacheMaxWeight = threadCacheMaxWeight;
+    }
+}
@@ -1,15 +1,18 @@
 package com.developersnest.devnestbackend.comments.controller;
 
 import com.developersnest.devnestbackend.auth.security.UserPrincipal;
+import com.developersnest.devnestbackend.comments.dto.CommentPageResponse;
 import com.developersnest.devnestbackend.comments.dto.CommentReactionResponse;
 import com.developersnest.devnestbackend.comments.dto.CommentResponse;
 import com.developersnest.devnestbackend.comments.dto.CreateCommentRequest;
 import com.developersnest.devnestbackend.comments.dto.UpdateCommentRequest;
 import com.developersnest.devnestbackend.comments.dto.UserCommentListResponse;
 import com.developersnest.devnestbackend.comments.service.CommentService;
+import com.developersnest.devnestbackend.posts.cache.ReadVersions;
 import jakarta.validation.Valid;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -22,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 @RestController
@@ -30,14 +34,39 @@ import org.springframework.web.server.ResponseStatusException;
 public class CommentController {
 
     private final CommentService commentService;
+    private final ReadVersions readVersions;
 
     @GetMapping("/posts/{postId}/comments")
-    public List<CommentResponse> listComments(
+    public ResponseEntity<CommentPageResponse> listComments(
             @PathVariable Long postId,
-            @AuthenticationPrincipal UserPrincipal principal
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size,
+            @AuthenticationPrincipal UserPrincipal principal,
+            WebRequest webRequest
+    ) {
+        Long viewerId = principal != null ? principal.getId() : null;
+        String etag = readVersions.commentsTag(postId, viewerId, "roots", cursor, size);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return revalidated(etag).body(commentService.listComments(postId, viewerId, cursor, size));
+    }
+
+    @GetMapping("/comments/{commentId}/replies")
+    public ResponseEntity<CommentPageResponse> listReplies(
+            @PathVariable Long commentId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size,
+            @AuthenticationPrincipal UserPrincipal principal,
+            WebRequest webRequest
     ) {
         Long viewerId = principal != null ? principal.getId() : null;
-        return commentService.listComments(postId, viewerId);
+        Long postId = commentService.findPostId(commentId);
+        String etag = readVersions.commentsTag(postId, viewerId, commentId, cursor, size);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return revalidated(etag).body(commentService.listReplies(postId, commentId, viewerId, cursor, size));
     }
 
     @PostMapping("/posts/{postId}/comments")
@@ -89,6 +118,26 @@ public class CommentController {
         return commentService.unlikeComment(commentId, userId);
     }
 
+    @PostMapping("/comments/{commentId}/reactions/{reaction}")
+    public CommentReactionResponse addReaction(
+            @PathVariable Long commentId,
+            @PathVariable String reaction,
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        Long userId = requireAuthenticated(principal);
+        return commentService.addReaction(commentId, userId, reaction);
+    }
+
+    @DeleteMapping("/comments/{commentId}/reactions/{reaction}")
+    public CommentReactionResponse removeReaction(
+            @PathVariable Long commentId,
+            @PathVariable String reaction,
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        Long userId = requireAuthenticated(principal);
+        return commentService.removeReaction(commentId, userId, reaction);
+    }
+
     @GetMapping("/comments/me")
     public UserCommentListResponse myComments(
             @AuthenticationPrincipal UserPrincipal principal,
@@ -99,6 +148,13 @@ public class CommentController {
         return commentService.listUserComments(userId, page, size);
     }
 
+    private static ResponseEntity.BodyBuilder revalidated(String etag) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .varyBy(HttpHeaders.AUTHORIZATION);
+    }
+
     private Long requireAuthenticated(UserPrincipal principal) {
         if (principal == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
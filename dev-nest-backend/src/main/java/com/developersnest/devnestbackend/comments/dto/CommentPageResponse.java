@@ -0,0 +1,14 @@
+package com.developersnest.devnestbackend.comments.dto;
+
+import java.util.List;
+
+/**
+ * One page of root comments or of a comment's replies. {@code totalCount} counts the post's visible
+ * comments and is only filled on the first page of root comments.
+ */
+public record CommentPageResponse(
+        List<CommentResponse> items,
+        String nextCursor,
+        Long totalCount
+) {
+}
@@ -1,7 +1,12 @@
 package com.developersnest.devnestbackend.comments.dto;
 
+/**
+ * Reaction state of one comment after a reaction change, laid out like {@link CommentResponse}.
+ */
 public record CommentReactionResponse(
         long likeCount,
-        boolean liked
+        boolean liked,
+        long[] reactions,
+        int myReactions
 ) {
 }
@@ -3,6 +3,11 @@ package com.developersnest.devnestbackend.comments.dto;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * {@code reactions} holds the count per reaction type and {@code myReactions} the viewer's reactions as a
+ * bitmask, both in {@link com.developersnest.devnestbackend.comments.entity.CommentReactionType} order.
+ * {@code likeCount} and {@code liked} repeat the like slot for older clients.
+ */
 public record CommentResponse(
         Long id,
         Long parentId,
@@ -12,8 +17,11 @@ public record CommentResponse(
         AuthorInfo author,
         long likeCount,
         boolean liked,
+        long[] reactions,
+        int myReactions,
         LocalDateTime createdAt,
         LocalDateTime updatedAt,
+        long replyCount,
         List<CommentResponse> replies
 ) {
 
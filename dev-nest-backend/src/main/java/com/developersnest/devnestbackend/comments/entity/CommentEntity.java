@@ -4,6 +4,7 @@ import com.developersnest.devnestbackend.auth.entity.UserEntity;
 import com.developersnest.devnestbackend.posts.entity.PostEntity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -14,6 +15,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.LinkedHashSet;
@@ -28,7 +30,8 @@ import lombok.Setter;
 public class CommentEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+    @SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = 50)
     @Column(name = "comment_id")
     private Long id;
 
@@ -47,7 +50,7 @@ public class CommentEntity {
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = false)
     private Set<CommentEntity> replies = new LinkedHashSet<>();
 
-    @Column(name = "body_markdown", columnDefinition = "NVARCHAR(MAX)", nullable = false)
+    @Column(name = "body_markdown", columnDefinition = "NVARCHAR(MAX)")
     private String bodyMarkdown;
 
     @Column(name = "body_html", columnDefinition = "NVARCHAR(MAX)")
@@ -56,6 +59,9 @@ public class CommentEntity {
     @Column(name = "is_deleted", nullable = false)
     private boolean deleted = false;
 
+    @Embedded
+    private CommentReactionCounts reactionCounts = new CommentReactionCounts();
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
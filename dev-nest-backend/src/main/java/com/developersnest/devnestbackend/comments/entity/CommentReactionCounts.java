@@ -0,0 +1,39 @@
+package com.developersnest.devnestbackend.comments.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+
+/**
+ * Per-type reaction histogram kept on the comment row. Columns are written only by atomic increments next
+ * to the reaction row and by the repair job, never through entity updates.
+ */
+@Getter
+@Embeddable
+public class CommentReactionCounts {
+
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private long likeCount;
+
+    @Column(name = "heart_count", nullable = false, updatable = false)
+    private long heartCount;
+
+    @Column(name = "laugh_count", nullable = false, updatable = false)
+    private long laughCount;
+
+    @Column(name = "wow_count", nullable = false, updatable = false)
+    private long wowCount;
+
+    @Column(name = "sad_count", nullable = false, updatable = false)
+    private long sadCount;
+
+    @Column(name = "celebrate_count", nullable = false, updatable = false)
+    private long celebrateCount;
+
+    /**
+     * Counts indexed by {@link CommentReactionType#ordinal()}.
+     */
+    public long[] toHistogram() {
+        return new long[]{likeCount, heartCount, laughCount, wowCount, sadCount, celebrateCount};
+    }
+}
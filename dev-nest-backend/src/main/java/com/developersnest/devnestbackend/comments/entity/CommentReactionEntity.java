@@ -19,8 +19,6 @@ import lombok.Setter;
 @Table(name = "comment_reactions")
 public class CommentReactionEntity {
 
-    public static final String REACTION_LIKE = "like";
-
     @EmbeddedId
     private CommentReactionId id;
 
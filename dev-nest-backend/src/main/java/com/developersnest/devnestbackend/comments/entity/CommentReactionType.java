@@ -0,0 +1,44 @@
+package com.developersnest.devnestbackend.comments.entity;
+
+import java.util.Optional;
+
+/**
+ * Reactions a comment can receive. The ordinal is the slot in reaction histograms and the bit in viewer
+ * reaction masks, so new types are only ever appended (together with their count column).
+ */
+public enum CommentReactionType {
+    LIKE("like"),
+    HEART("heart"),
+    LAUGH("laugh"),
+    WOW("wow"),
+    SAD("sad"),
+    CELEBRATE("celebrate");
+
+    private static final CommentReactionType[] VALUES = values();
+
+    private final String code;
+
+    CommentReactionType(String code) {
+        this.code = code;
+    }
+
+    /**
+     * Value stored in {@code comment_reactions.reaction} and used in URLs.
+     */
+    public String code() {
+        return code;
+    }
+
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    public static Optional<CommentReactionType> fromCode(String code) {
+        for (CommentReactionType type : VALUES) {
+            if (type.code.equals(code)) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -2,61 +2,62 @@ package com.developersnest.devnestbackend.comments.repository;
 
 import com.developersnest.devnestbackend.comments.entity.CommentReactionEntity;
 import com.developersnest.devnestbackend.comments.entity.CommentReactionId;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface CommentReactionRepository extends JpaRepository<CommentReactionEntity, CommentReactionId> {
 
-    @Query("""
-            SELECT COUNT(r)
-            FROM CommentReactionEntity r
-            WHERE r.comment.id = :commentId
-              AND r.id.reaction = :reaction
-            """)
-    long countByCommentIdAndReaction(@Param("commentId") Long commentId, @Param("reaction") String reaction);
-
-    @Query("""
-            SELECT r.id.commentId AS commentId, COUNT(r) AS count
-            FROM CommentReactionEntity r
-            WHERE r.comment.post.id = :postId AND r.id.reaction = :reaction
-            GROUP BY r.id.commentId
-            """)
-    List<CommentReactionSummary> aggregateReactionCount(
-            @Param("postId") Long postId,
-            @Param("reaction") String reaction
+    @Modifying
+    @Query(value = """
+            INSERT INTO comment_reactions (comment_id, user_id, reaction, reacted_at)
+            SELECT :commentId, :userId, :reaction, :reactedAt
+            WHERE NOT EXISTS (
+                SELECT 1 FROM comment_reactions
+                WHERE comment_id = :commentId AND user_id = :userId AND reaction = :reaction
+            )
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("commentId") Long commentId,
+            @Param("userId") Long userId,
+            @Param("reaction") String reaction,
+            @Param("reactedAt") LocalDateTime reactedAt
     );
 
+    @Modifying
     @Query("""
-            SELECT r.id.commentId AS commentId, COUNT(r) AS count
-            FROM CommentReactionEntity r
-            WHERE r.id.commentId IN :commentIds AND r.id.reaction = :reaction
-            GROUP BY r.id.commentId
+            DELETE FROM CommentReactionEntity r
+            WHERE r.id.commentId = :commentId
+              AND r.id.userId = :userId
+              AND r.id.reaction = :reaction
             """)
-    List<CommentReactionSummary> aggregateReactionCountByCommentIds(
-            @Param("commentIds") Collection<Long> commentIds,
+    int deleteReaction(
+            @Param("commentId") Long commentId,
+            @Param("userId") Long userId,
             @Param("reaction") String reaction
     );
 
+    /**
+     * Every reaction {@code userId} left on the given comments, all types in one pass.
+     */
     @Query("""
-            SELECT r.id.commentId
+            SELECT r.id.commentId AS commentId, r.id.reaction AS reaction
             FROM CommentReactionEntity r
-            WHERE r.comment.post.id = :postId
-              AND r.user.id = :userId
-              AND r.id.reaction = :reaction
+            WHERE r.id.commentId IN :commentIds
+              AND r.id.userId = :userId
             """)
-    Set<Long> findReactedCommentIds(
-            @Param("postId") Long postId,
-            @Param("userId") Long userId,
-            @Param("reaction") String reaction
+    List<ViewerReactionRow> findViewerReactions(
+            @Param("commentIds") Collection<Long> commentIds,
+            @Param("userId") Long userId
     );
 
-    interface CommentReactionSummary {
+    interface ViewerReactionRow {
         Long getCommentId();
 
-        Long getCount();
+        String getReaction();
     }
 }
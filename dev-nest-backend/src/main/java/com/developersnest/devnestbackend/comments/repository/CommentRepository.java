@@ -1,29 +1,199 @@
 package com.developersnest.devnestbackend.comments.repository;
 
 import com.developersnest.devnestbackend.comments.entity.CommentEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
 
     @Query("""
-            SELECT DISTINCT c FROM CommentEntity c
-            LEFT JOIN FETCH c.author
-            LEFT JOIN FETCH c.post
-            LEFT JOIN FETCH c.parent
+            SELECT c.id AS id, c.parent.id AS parentId, c.deleted AS deleted,
+                   c.bodyMarkdown AS bodyMarkdown, c.bodyHtml AS bodyHtml,
+                   c.reactionCounts.likeCount AS likeCount, c.reactionCounts.heartCount AS heartCount,
+                   c.reactionCounts.laughCount AS laughCount, c.reactionCounts.wowCount AS wowCount,
+                   c.reactionCounts.sadCount AS sadCount, c.reactionCounts.celebrateCount AS celebrateCount,
+                   a.id AS authorId, a.username AS authorUsername, a.displayName AS authorDisplayName,
+                   c.createdAt AS createdAt, c.updatedAt AS updatedAt
+            FROM CommentEntity c
+            JOIN c.author a
             WHERE c.post.id = :postId
-            ORDER BY c.createdAt ASC
+            ORDER BY c.createdAt ASC, c.id ASC
             """)
-    List<CommentEntity> findAllByPostIdWithAuthor(@Param("postId") Long postId);
+    List<ThreadRow> findThreadRows(@Param("postId") Long postId);
+
+    @Query("""
+            SELECT c.id AS id, c.parent.id AS parentId, c.deleted AS deleted,
+                   c.bodyMarkdown AS bodyMarkdown, c.bodyHtml AS bodyHtml,
+                   c.reactionCounts.likeCount AS likeCount, c.reactionCounts.heartCount AS heartCount,
+                   c.reactionCounts.laughCount AS laughCount, c.reactionCounts.wowCount AS wowCount,
+                   c.reactionCounts.sadCount AS sadCount, c.reactionCounts.celebrateCount AS celebrateCount,
+                   a.id AS authorId, a.username AS authorUsername, a.displayName AS authorDisplayName,
+                   c.createdAt AS createdAt, c.updatedAt AS updatedAt
+            FROM CommentEntity c
+            JOIN c.author a
+            WHERE c.id = :commentId
+            """)
+    Optional<ThreadRow> findThreadRow(@Param("commentId") Long commentId);
+
+    @Query("""
+            SELECT c.parent.id AS parentId, COUNT(c) AS count
+            FROM CommentEntity c
+            WHERE c.parent.id IN :parentIds
+            GROUP BY c.parent.id
+            """)
+    List<ReplyCountRow> countReplies(@Param("parentIds") Collection<Long> parentIds);
 
     Optional<CommentEntity> findByIdAndPostId(Long commentId, Long postId);
 
+    @Query("SELECT c.post.id FROM CommentEntity c WHERE c.id = :commentId")
+    Optional<Long> findPostIdById(@Param("commentId") Long commentId);
+
+    /**
+     * Moves one slot of the comment's reaction histogram by {@code delta}.
+     */
+    @Modifying
+    @Query("""
+            UPDATE CommentEntity c
+            SET c.reactionCounts.likeCount = c.reactionCounts.likeCount + CASE WHEN :reaction = 'like' THEN :delta ELSE 0L END,
+                c.reactionCounts.heartCount = c.reactionCounts.heartCount + CASE WHEN :reaction = 'heart' THEN :delta ELSE 0L END,
+                c.reactionCounts.laughCount = c.reactionCounts.laughCount + CASE WHEN :reaction = 'laugh' THEN :delta ELSE 0L END,
+                c.reactionCounts.wowCount = c.reactionCounts.wowCount + CASE WHEN :reaction = 'wow' THEN :delta ELSE 0L END,
+                c.reactionCounts.sadCount = c.reactionCounts.sadCount + CASE WHEN :reaction = 'sad' THEN :delta ELSE 0L END,
+                c.reactionCounts.celebrateCount = c.reactionCounts.celebrateCount + CASE WHEN :reaction = 'celebrate' THEN :delta ELSE 0L END
+            WHERE c.id = :commentId
+            """)
+    int adjustReactionCount(
+            @Param("commentId") Long commentId,
+            @Param("reaction") String reaction,
+            @Param("delta") long delta
+    );
+
+    @Query("""
+            SELECT c.id AS id,
+                   c.reactionCounts.likeCount AS likeCount, c.reactionCounts.heartCount AS heartCount,
+                   c.reactionCounts.laughCount AS laughCount, c.reactionCounts.wowCount AS wowCount,
+                   c.reactionCounts.sadCount AS sadCount, c.reactionCounts.celebrateCount AS celebrateCount
+            FROM CommentEntity c
+            WHERE c.id = :commentId
+            """)
+    Optional<StoredCountsRow> findReactionCounts(@Param("commentId") Long commentId);
+
+    /**
+     * Recomputes the histograms of the comments in an id range from {@code comment_reactions}, in the
+     * statement that writes them, so a reaction committed meanwhile is never overwritten. Rows that already
+     * match are not touched.
+     */
+    @Modifying
+    @Query("""
+            UPDATE CommentEntity c
+            SET c.reactionCounts.likeCount = (SELECT COUNT(r) FROM CommentReactionEntity r WHERE r.id.commentId = c.id AND r.id.reaction = 'like'),
+                c.reactionCounts.heartCount = (SELECT COUNT(r) FROM CommentReactionEntity r WHERE r.id.commentId = c.id AND r.id.reaction = 'heart'),
+                c.reactionCounts.laughCount = (SELECT COUNT(r) FROM CommentReactionEntity r WHERE r.id.commentId = c.id AND r.id.reaction = 'laugh'),
+                c.reactionCounts.wowCount = (SELECT COUNT(r) FROM CommentReactionEntity r WHERE r.id.commentId = c.id AND r.id.reaction = 'wow'),
+                c.reactionCounts.sadCount = (SELECT COUNT(r) FROM CommentReactionEntity r WHERE r.id.commentId = c.id AND r.id.reaction = 'sad'),
+                c.reactionCounts.celebrateCount = (SELECT COUNT(r) FROM CommentReactionEntity r WHERE r.id.commentId = c.id AND r.id.reaction = 'celebrate')
+            WHERE c.id BETWEEN :fromId AND :toId
+              AND (c.reactionCounts.likeCount <> (SELECT COUNT(r) FROM CommentReactionEntity r WHERE r.id.commentId = c.id AND r.id.reaction = 'like')
+                   OR c.reactionCounts.heartCount <> (SELECT COUNT(r) FROM CommentReactionEntity r WHERE r.id.commentId = c.id AND r.id.reaction = 'heart')
+                   OR c.reactionCounts.laughCount <> (SELECT COUNT(r) FROM CommentReactionEntity r WHERE r.id.commentId = c.id AND r.id.reaction = 'laugh')
+                   OR c.reactionCounts.wowCount <> (SELECT COUNT(r) FROM CommentReactionEntity r WHERE r.id.commentId = c.id AND r.id.reaction = 'wow')
+                   OR c.reactionCounts.sadCount <> (SELECT COUNT(r) FROM CommentReactionEntity r WHERE r.id.commentId = c.id AND r.id.reaction = 'sad')
+                   OR c.reactionCounts.celebrateCount <> (SELECT COUNT(r) FROM CommentReactionEntity r WHERE r.id.commentId = c.id AND r.id.reaction = 'celebrate'))
+            """)
+    int recomputeReactionCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("""
+            SELECT c.id FROM CommentEntity c
+            WHERE c.id > :afterId
+            ORDER BY c.id ASC
+            """)
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     @EntityGraph(attributePaths = {"post", "parent"})
     Page<CommentEntity> findByAuthor_Id(Long authorId, Pageable pageable);
+
+    @Query("""
+            SELECT c.id AS id, c.post.id AS postId, c.bodyMarkdown AS markdown
+            FROM CommentEntity c
+            WHERE c.bodyHtml IS NULL AND c.deleted = false AND c.id > :afterId
+            ORDER BY c.id ASC
+            """)
+    List<UnrenderedRow> findUnrendered(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE CommentEntity c SET c.bodyHtml = :html WHERE c.id = :commentId AND c.bodyHtml IS NULL")
+    int fillHtml(@Param("commentId") Long commentId, @Param("html") String html);
+
+    /**
+     * The reaction histogram columns of a comment.
+     */
+    interface ReactionCountsRow {
+        long getLikeCount();
+
+        long getHeartCount();
+
+        long getLaughCount();
+
+        long getWowCount();
+
+        long getSadCount();
+
+        long getCelebrateCount();
+
+        /**
+         * Counts indexed by {@link com.developersnest.devnestbackend.comments.entity.CommentReactionType#ordinal()}.
+         */
+        default long[] toHistogram() {
+            return new long[]{getLikeCount(), getHeartCount(), getLaughCount(), getWowCount(), getSadCount(), getCelebrateCount()};
+        }
+    }
+
+    interface StoredCountsRow extends ReactionCountsRow {
+        Long getId();
+    }
+
+    interface ThreadRow extends ReactionCountsRow {
+        Long getId();
+
+        Long getParentId();
+
+        boolean isDeleted();
+
+        String getBodyMarkdown();
+
+        String getBodyHtml();
+
+        Long getAuthorId();
+
+        String getAuthorUsername();
+
+        String getAuthorDisplayName();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    interface ReplyCountRow {
+        Long getParentId();
+
+        Long getCount();
+    }
+
+    interface UnrenderedRow {
+        Long getId();
+
+        Long getPostId();
+
+        String getMarkdown();
+    }
 }
@@ -0,0 +1,62 @@
+package com.developersnest.devnestbackend.comments.service;
+
+import com.developersnest.devnestbackend.comments.cache.CommentThreadCache;
+import com.developersnest.devnestbackend.comments.repository.CommentRepository;
+import com.developersnest.devnestbackend.posts.cache.ReadVersions;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reconciles the per-type reaction counters on {@code comments} with {@code comment_reactions}, one id range
+ * of comments per transaction. The counters move in the same transaction as the reaction row, so drift only
+ * comes from manual fixes or restores. Each range is recomputed in a single statement that skips rows that
+ * already match.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentReactionCountRepairJob {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final CommentRepository commentRepository;
+    private final CommentThreadCache commentThreadCache;
+    private final ReadVersions readVersions;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${devnest.comments.reaction-count-repair-cron:0 45 4 * * *}")
+    public void repair() {
+        long afterId = 0L;
+        int repaired = 0;
+        try {
+            while (true) {
+                List<Long> commentIds = commentRepository.findIdsAfter(afterId, PageRequest.of(0, CHUNK_SIZE));
+                if (commentIds.isEmpty()) {
+                    break;
+                }
+                Long fromId = commentIds.get(0);
+                Long toId = commentIds.get(commentIds.size() - 1);
+                Integer written = transactionTemplate.execute(status -> commentRepository.recomputeReactionCounts(fromId, toId));
+                repaired += written != null ? written : 0;
+                afterId = toId;
+                if (commentIds.size() < CHUNK_SIZE) {
+                    break;
+                }
+            }
+            log.info("Comment reaction counts repaired for {} comments", repaired);
+        } catch (RuntimeException ex) {
+            log.warn("Comment reaction count repair stopped after comment {}", afterId, ex);
+        } finally {
+            if (repaired > 0) {
+                // Drop the threads before moving the tags, so a fresh tag is never paired with a stale thread.
+                commentThreadCache.invalidateAll();
+                readVersions.invalidateComments();
+            }
+        }
+    }
+}
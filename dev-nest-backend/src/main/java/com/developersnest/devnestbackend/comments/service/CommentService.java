@@ -2,6 +2,9 @@ package com.developersnest.devnestbackend.comments.service;
 
 import com.developersnest.devnestbackend.auth.entity.UserEntity;
 import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.comments.cache.CommentThread;
+import com.developersnest.devnestbackend.comments.cache.CommentThreadCache;
+import com.developersnest.devnestbackend.comments.dto.CommentPageResponse;
 import com.developersnest.devnestbackend.comments.dto.CommentReactionResponse;
 import com.developersnest.devnestbackend.comments.dto.CommentResponse;
 import com.developersnest.devnestbackend.comments.dto.CommentResponse.AuthorInfo;
@@ -10,22 +13,27 @@ import com.developersnest.devnestbackend.comments.dto.UpdateCommentRequest;
 import com.developersnest.devnestbackend.comments.dto.UserCommentListResponse;
 import com.developersnest.devnestbackend.comments.dto.UserCommentResponse;
 import com.developersnest.devnestbackend.comments.entity.CommentEntity;
-import com.developersnest.devnestbackend.comments.entity.CommentReactionEntity;
-import com.developersnest.devnestbackend.comments.entity.CommentReactionId;
+import com.developersnest.devnestbackend.comments.entity.CommentReactionType;
 import com.developersnest.devnestbackend.comments.repository.CommentReactionRepository;
 import com.developersnest.devnestbackend.comments.repository.CommentRepository;
+import com.developersnest.devnestbackend.common.markdown.MarkdownRenderer;
+import com.developersnest.devnestbackend.common.persistence.DuplicateKeys;
 import com.developersnest.devnestbackend.posts.entity.PostEntity;
+import com.developersnest.devnestbackend.posts.entity.PostMetricsEntity;
+import com.developersnest.devnestbackend.posts.event.PostCommentsChangedEvent;
+import com.developersnest.devnestbackend.posts.repository.AuthorStatsRepository;
+import com.developersnest.devnestbackend.posts.repository.PostMetricsRepository;
 import com.developersnest.devnestbackend.posts.repository.PostRepository;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -33,61 +41,66 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
-    private static final Comparator<CommentEntity> CREATED_AT_COMPARATOR =
-            Comparator.comparing(CommentEntity::getCreatedAt);
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int REPLY_PREVIEW_SIZE = 3;
 
     private final CommentRepository commentRepository;
+    private final CommentThreadCache commentThreadCache;
     private final CommentReactionRepository commentReactionRepository;
     private final PostRepository postRepository;
+    private final AuthorStatsRepository authorStatsRepository;
+    private final PostMetricsRepository postMetricsRepository;
     private final UserRepository userRepository;
-
+    private final MarkdownRenderer markdownRenderer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * One page of root comments, oldest first, served from the post's cached thread. Each root carries its
+     * reply count and its first {@value #REPLY_PREVIEW_SIZE} replies; the rest are paged through
+     * {@link #listReplies}. Only the viewer's reactions are read per request, in one query.
+     */
     @Transactional(readOnly = true)
-    public List<CommentResponse> listComments(Long postId, Long viewerId) {
-        List<CommentEntity> comments = commentRepository.findAllByPostIdWithAuthor(postId);
-        if (comments.isEmpty()) {
-            return List.of();
-        }
+    public CommentPageResponse listComments(Long postId, Long viewerId, String cursor, Integer size) {
+        CommentCursor after = CommentCursor.decode(cursor);
+        CommentThread thread = commentThreadCache.get(postId);
+        CommentThread.Slice slice = thread.roots(
+                after != null ? after.createdAt() : null,
+                after != null ? after.commentId() : null,
+                pageSize(size),
+                REPLY_PREVIEW_SIZE
+        );
+        return toPage(slice, viewerId, after == null ? thread.visibleCount() : null);
+    }
 
-        Map<Long, Long> likeCounts = commentReactionRepository.aggregateReactionCount(
-                postId,
-                CommentReactionEntity.REACTION_LIKE
-        ).stream().collect(Collectors.toMap(
-                CommentReactionRepository.CommentReactionSummary::getCommentId,
-                summary -> summary.getCount() == null ? 0L : summary.getCount(),
-                Long::sum,
-                LinkedHashMap::new
-        ));
-
-        Set<Long> likedIds = viewerId != null
-                ? commentReactionRepository.findReactedCommentIds(
-                postId,
-                viewerId,
-                CommentReactionEntity.REACTION_LIKE
-        )
-                : Set.of();
-
-        comments.sort(CREATED_AT_COMPARATOR);
-        Map<Long, List<CommentEntity>> childrenMap = new LinkedHashMap<>();
-        List<CommentEntity> roots = new ArrayList<>();
-        for (CommentEntity comment : comments) {
-            CommentEntity parent = comment.getParent();
-            if (parent == null) {
-                roots.add(comment);
-            } else {
-                childrenMap.computeIfAbsent(parent.getId(), key -> new ArrayList<>()).add(comment);
-            }
-        }
-        childrenMap.values().forEach(list -> list.sort(CREATED_AT_COMPARATOR));
+    /**
+     * One page of direct replies to {@code commentId}, oldest first. Replies carry their own reply count
+     * so deeper levels can be expanded the same way.
+     */
+    @Transactional(readOnly = true)
+    public CommentPageResponse listReplies(Long postId, Long commentId, Long viewerId, String cursor, Integer size) {
+        CommentCursor after = CommentCursor.decode(cursor);
+        CommentThread.Slice slice = commentThreadCache.get(postId).replies(
+                commentId,
+                after != null ? after.createdAt() : null,
+                after != null ? after.commentId() : null,
+                pageSize(size)
+        );
+        return toPage(slice, viewerId, null);
+    }
 
-        return roots.stream()
-                .map(comment -> toResponse(comment, likeCounts, likedIds, childrenMap))
-                .toList();
+    @Transactional(readOnly = true)
+    public Long findPostId(Long commentId) {
+        return commentRepository.findPostIdById(commentId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."));
     }
 
     @Transactional(readOnly = true)
@@ -101,23 +114,6 @@ public class CommentService {
             return new UserCommentListResponse(List.of(), result.getTotalElements(), result.getTotalPages(), result.getNumber(), result.getSize());
         }
 
-        List<Long> commentIds = comments.stream()
-                .map(CommentEntity::getId)
-                .filter(Objects::nonNull)
-                .toList();
-
-        Map<Long, Long> likeCounts = commentIds.isEmpty()
-                ? Map.of()
-                : commentReactionRepository.aggregateReactionCountByCommentIds(
-                        commentIds,
-                        CommentReactionEntity.REACTION_LIKE
-                ).stream().collect(Collectors.toMap(
-                        CommentReactionRepository.CommentReactionSummary::getCommentId,
-                        summary -> summary.getCount() == null ? 0L : summary.getCount(),
-                        Long::sum,
-                        LinkedHashMap::new
-                ));
-
         List<UserCommentResponse> items = comments.stream()
                 .map(comment -> new UserCommentResponse(
                         comment.getId(),
@@ -128,7 +124,7 @@ public class CommentService {
                         comment.isDeleted(),
                         comment.getBodyMarkdown(),
                         comment.getBodyHtml(),
-                        likeCounts.getOrDefault(comment.getId(), 0L),
+                        comment.getReactionCounts().getLikeCount(),
                         comment.getCreatedAt(),
                         comment.getUpdatedAt()
                 ))
@@ -155,11 +151,14 @@ public class CommentService {
         entity.setAuthor(author);
         entity.setParent(parent);
         entity.setBodyMarkdown(request.body().trim());
-        entity.setBodyHtml(request.body());
+        entity.setBodyHtml(markdownRenderer.render(entity.getBodyMarkdown()));
         entity.setDeleted(false);
 
-        CommentEntity saved = commentRepository.save(entity);
-        return toResponse(saved, Map.of(saved.getId(), 0L), Set.of(), Map.of());
+        CommentEntity saved = commentRepository.saveAndFlush(entity);
+        authorStatsRepository.adjustForPost(postId, 0, 0, 1);
+        adjustPostComments(postId, 1);
+        eventPublisher.publishEvent(new PostCommentsChangedEvent(postId, saved.getId()));
+        return toResponse(saved, 0, 0L);
     }
 
     @Transactional
@@ -169,28 +168,25 @@ public class CommentService {
 
         validateAuthor(comment, userId);
 
+        boolean restored = comment.isDeleted();
+        if (restored) {
+            authorStatsRepository.adjustForPost(comment.getPost().getId(), 0, 0, 1);
+        }
         comment.setBodyMarkdown(request.body().trim());
-        comment.setBodyHtml(request.body());
+        comment.setBodyHtml(markdownRenderer.render(comment.getBodyMarkdown()));
         comment.setDeleted(false);
         comment.setUpdatedAt(LocalDateTime.now());
 
-        CommentEntity updated = commentRepository.save(comment);
-        CommentReactionId reactionId = new CommentReactionId(
-                commentId,
-                userId,
-                CommentReactionEntity.REACTION_LIKE
-        );
-        long likeCount = commentReactionRepository.countByCommentIdAndReaction(
-                commentId,
-                CommentReactionEntity.REACTION_LIKE
-        );
-        boolean liked = commentReactionRepository.existsById(reactionId);
-        return toResponse(
-                updated,
-                Map.of(commentId, likeCount),
-                liked ? Set.of(commentId) : Set.of(),
-                Map.of()
-        );
+        CommentEntity updated = commentRepository.saveAndFlush(comment);
+        if (restored) {
+            adjustPostComments(comment.getPost().getId(), 1);
+        }
+        eventPublisher.publishEvent(new PostCommentsChangedEvent(comment.getPost().getId(), commentId));
+        int myReactions = viewerMasks(List.of(commentId), userId).getOrDefault(commentId, 0);
+        long replyCount = commentRepository.countReplies(List.of(commentId)).stream()
+                .mapToLong(row -> row.getCount() == null ? 0L : row.getCount())
+                .sum();
+        return toResponse(updated, myReactions, replyCount);
     }
 
     @Transactional
@@ -199,53 +195,111 @@ public class CommentService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."));
         validateAuthor(comment, userId);
 
+        boolean wasLive = !comment.isDeleted();
+        if (wasLive) {
+            authorStatsRepository.adjustForPost(comment.getPost().getId(), 0, 0, -1);
+        }
         comment.setDeleted(true);
         comment.setBodyMarkdown(null);
         comment.setBodyHtml(null);
         comment.setUpdatedAt(LocalDateTime.now());
-        commentRepository.save(comment);
+        commentRepository.saveAndFlush(comment);
+        if (wasLive) {
+            adjustPostComments(comment.getPost().getId(), -1);
+        }
+        eventPublisher.publishEvent(new PostCommentsChangedEvent(comment.getPost().getId(), commentId));
     }
 
-    @Transactional
     public CommentReactionResponse likeComment(Long commentId, Long userId) {
-        CommentEntity comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."));
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "사용자를 찾을 수 없습니다."));
-
-        CommentReactionId id = new CommentReactionId(
-                commentId,
-                userId,
-                CommentReactionEntity.REACTION_LIKE
-        );
-        commentReactionRepository.findById(id).orElseGet(() -> {
-            CommentReactionEntity reaction = new CommentReactionEntity();
-            reaction.setId(id);
-            reaction.setComment(comment);
-            reaction.setUser(user);
-            return commentReactionRepository.save(reaction);
-        });
-
-        long likeCount = commentReactionRepository.countByCommentIdAndReaction(
-                commentId,
-                CommentReactionEntity.REACTION_LIKE
-        );
-        return new CommentReactionResponse(likeCount, true);
+        return react(commentId, userId, CommentReactionType.LIKE);
     }
 
     @Transactional
     public CommentReactionResponse unlikeComment(Long commentId, Long userId) {
-        CommentReactionId id = new CommentReactionId(
-                commentId,
-                userId,
-                CommentReactionEntity.REACTION_LIKE
-        );
-        commentReactionRepository.findById(id).ifPresent(commentReactionRepository::delete);
-        long likeCount = commentReactionRepository.countByCommentIdAndReaction(
-                commentId,
-                CommentReactionEntity.REACTION_LIKE
+        return unreact(commentId, userId, CommentReactionType.LIKE);
+    }
+
+    public CommentReactionResponse addReaction(Long commentId, Long userId, String reaction) {
+        return react(commentId, userId, reactionType(reaction));
+    }
+
+    @Transactional
+    public CommentReactionResponse removeReaction(Long commentId, Long userId, String reaction) {
+        return unreact(commentId, userId, reactionType(reaction));
+    }
+
+    /**
+     * Inserts the reaction only if absent and bumps its counter only when the insert happened, so repeating
+     * a reaction is a no-op that returns the current state.
+     */
+    private CommentReactionResponse react(Long commentId, Long userId, CommentReactionType type) {
+        Long postId = commentRepository.findPostIdById(commentId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."));
+        LocalDateTime reactedAt = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (commentReactionRepository.insertIfAbsent(commentId, userId, type.code(), reactedAt) == 0) {
+                    return;
+                }
+                commentRepository.adjustReactionCount(commentId, type.code(), 1);
+                eventPublisher.publishEvent(new PostCommentsChangedEvent(postId, commentId));
+            });
+        } catch (DataIntegrityViolationException ex) {
+            // Only the same reaction inserted concurrently by the same user means the reaction is in place.
+            if (!DuplicateKeys.isDuplicateKey(ex, "COMMENT_REACTIONS")) {
+                if (!userRepository.existsById(userId)) {
+                    throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "사용자를 찾을 수 없습니다.");
+                }
+                if (!commentRepository.existsById(commentId)) {
+                    throw new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다.");
+                }
+                throw ex;
+            }
+        }
+        return reactionState(commentId, userId);
+    }
+
+    private CommentReactionResponse unreact(Long commentId, Long userId, CommentReactionType type) {
+        int removed = commentReactionRepository.deleteReaction(commentId, userId, type.code());
+        if (removed > 0) {
+            commentRepository.adjustReactionCount(commentId, type.code(), -removed);
+            commentRepository.findPostIdById(commentId)
+                    .ifPresent(postId -> eventPublisher.publishEvent(new PostCommentsChangedEvent(postId, commentId)));
+        }
+        return reactionState(commentId, userId);
+    }
+
+    private CommentReactionResponse reactionState(Long commentId, Long userId) {
+        long[] reactions = commentRepository.findReactionCounts(commentId)
+                .map(CommentRepository.ReactionCountsRow::toHistogram)
+                .orElseGet(() -> new long[CommentReactionType.values().length]);
+        int myReactions = viewerMasks(List.of(commentId), userId).getOrDefault(commentId, 0);
+        return new CommentReactionResponse(
+                reactions[CommentReactionType.LIKE.ordinal()],
+                (myReactions & CommentReactionType.LIKE.mask()) != 0,
+                reactions,
+                myReactions
         );
-        return new CommentReactionResponse(likeCount, false);
+    }
+
+    private static CommentReactionType reactionType(String reaction) {
+        return CommentReactionType.fromCode(reaction)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 반응입니다."));
+    }
+
+    /**
+     * Moves the post's live comment count and last comment time after a flushed comment change. Posts that
+     * predate their metrics row get one counted from scratch.
+     */
+    private void adjustPostComments(Long postId, long delta) {
+        if (postMetricsRepository.adjustComments(postId, delta) > 0) {
+            return;
+        }
+        PostMetricsEntity metrics = new PostMetricsEntity();
+        metrics.setPost(postRepository.getReferenceById(postId));
+        metrics.setCommentsCount(postRepository.countLiveComments(postId));
+        postMetricsRepository.saveAndFlush(metrics);
+        postMetricsRepository.adjustComments(postId, 0);
     }
 
     private void validateAuthor(CommentEntity comment, Long userId) {
@@ -254,17 +308,77 @@ public class CommentService {
         }
     }
 
-    private CommentResponse toResponse(
-            CommentEntity comment,
-            Map<Long, Long> likeCounts,
-            Set<Long> likedIds,
-            Map<Long, List<CommentEntity>> childrenMap
-    ) {
-        List<CommentEntity> childEntities = childrenMap.getOrDefault(comment.getId(), List.of());
-        List<CommentResponse> replies = childEntities.stream()
-                .map(child -> toResponse(child, likeCounts, likedIds, childrenMap))
+    /**
+     * The viewer's reactions on each of {@code commentIds} as {@link CommentReactionType#mask()} bits,
+     * read in one query for all types. Comments without reactions are absent.
+     */
+    private Map<Long, Integer> viewerMasks(Collection<Long> commentIds, Long viewerId) {
+        if (viewerId == null || commentIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> masks = new HashMap<>();
+        for (CommentReactionRepository.ViewerReactionRow row : commentReactionRepository.findViewerReactions(commentIds, viewerId)) {
+            CommentReactionType.fromCode(row.getReaction())
+                    .ifPresent(type -> masks.merge(row.getCommentId(), type.mask(), (left, right) -> left | right));
+        }
+        return masks;
+    }
+
+    private static int pageSize(Integer size) {
+        return size != null && size > 0 ? Math.min(size, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+    }
+
+    private CommentPageResponse toPage(CommentThread.Slice slice, Long viewerId, Long totalCount) {
+        List<CommentThread.Item> items = slice.items();
+        if (items.isEmpty()) {
+            return new CommentPageResponse(List.of(), null, totalCount);
+        }
+        List<Long> ids = new ArrayList<>();
+        for (CommentThread.Item item : items) {
+            ids.add(item.comment().id());
+            item.replies().forEach(reply -> ids.add(reply.comment().id()));
+        }
+        Map<Long, Integer> masks = viewerMasks(ids, viewerId);
+
+        List<CommentResponse> responses = items.stream()
+                .map(item -> toResponse(
+                        item,
+                        masks,
+                        item.replies().stream()
+                                .map(reply -> toResponse(reply, masks, List.of()))
+                                .toList()
+                ))
                 .toList();
+        String nextCursor = null;
+        if (slice.hasMore()) {
+            CommentThread.Node last = items.get(items.size() - 1).comment();
+            nextCursor = new CommentCursor(last.createdAt(), last.id()).encode();
+        }
+        return new CommentPageResponse(responses, nextCursor, totalCount);
+    }
 
+    private CommentResponse toResponse(CommentThread.Item item, Map<Long, Integer> masks, List<CommentResponse> replies) {
+        CommentThread.Node node = item.comment();
+        int myReactions = masks.getOrDefault(node.id(), 0);
+        return new CommentResponse(
+                node.id(),
+                node.parentId(),
+                node.deleted(),
+                node.bodyMarkdown(),
+                node.bodyHtml(),
+                node.author(),
+                node.reactions()[CommentReactionType.LIKE.ordinal()],
+                (myReactions & CommentReactionType.LIKE.mask()) != 0,
+                node.reactions(),
+                myReactions,
+                node.createdAt(),
+                node.updatedAt(),
+                item.replyCount(),
+                replies
+        );
+    }
+
+    private CommentResponse toResponse(CommentEntity comment, int myReactions, long replyCount) {
         AuthorInfo author = comment.getAuthor() != null
                 ? new AuthorInfo(
                 comment.getAuthor().getId(),
@@ -280,11 +394,14 @@ public class CommentService {
                 comment.getBodyMarkdown(),
                 comment.getBodyHtml(),
                 author,
-                likeCounts.getOrDefault(comment.getId(), 0L),
-                likedIds.contains(comment.getId()),
+                comment.getReactionCounts().getLikeCount(),
+                (myReactions & CommentReactionType.LIKE.mask()) != 0,
+                comment.getReactionCounts().toHistogram(),
+                myReactions,
                 comment.getCreatedAt(),
                 comment.getUpdatedAt(),
-                replies
+                replyCount,
+                List.of()
         );
     }
 }
@@ -0,0 +1,104 @@
+package com.developersnest.devnestbackend.common.markdown;
+
+import com.developersnest.devnestbackend.comments.repository.CommentRepository;
+import com.developersnest.devnestbackend.posts.event.PostChangedEvent;
+import com.developersnest.devnestbackend.posts.event.PostCommentsChangedEvent;
+import com.developersnest.devnestbackend.posts.repository.PostContentRepository;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Renders HTML for post bodies and comments stored before rendering moved to write time. Only rows with
+ * a NULL html column are touched, so once every row has been rendered a startup run costs one query per table.
+ * Each filled row publishes the usual change event, so caches built from the unrendered row are refreshed.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "devnest.markdown.backfill-on-startup", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MarkdownBackfillJob {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final PostContentRepository postContentRepository;
+    private final CommentRepository commentRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        try {
+            int posts = backfill(
+                    afterId -> postContentRepository.findUnrendered(afterId, PageRequest.of(0, CHUNK_SIZE)).stream()
+                            .map(row -> new Row(row.getId(), row.getMarkdown(),
+                                    new PostChangedEvent(row.getId(), row.getSlug(), PostChangedEvent.Type.UPDATED, null)))
+                            .toList(),
+                    postContentRepository::fillHtml
+            );
+            int comments = backfill(
+                    afterId -> commentRepository.findUnrendered(afterId, PageRequest.of(0, CHUNK_SIZE)).stream()
+                            .map(row -> new Row(row.getId(), row.getMarkdown(),
+                                    new PostCommentsChangedEvent(row.getPostId(), row.getId())))
+                            .toList(),
+                    commentRepository::fillHtml
+            );
+            if (posts > 0 || comments > 0) {
+                log.info("Rendered stored markdown for {} posts and {} comments", posts, comments);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Markdown backfill stopped early, remaining rows are rendered on the next startup", ex);
+        }
+    }
+
+    private int backfill(Function<Long, List<Row>> loader, BiFunction<Long, String, Integer> writer) {
+        long afterId = 0L;
+        int rendered = 0;
+        while (true) {
+            List<Row> rows = loader.apply(afterId);
+            if (rows.isEmpty()) {
+                return rendered;
+            }
+            // Render outside the transaction so a large chunk does not hold row locks while parsing.
+            // Rows without markdown get an empty body too; left NULL they would be picked up on every startup.
+            List<Rendered> renderedRows = rows.stream()
+                    .map(row -> new Rendered(row, markdownRenderer.render(Objects.requireNonNullElse(row.markdown(), ""))))
+                    .toList();
+            Integer updated = transactionTemplate.execute(status -> {
+                int filled = 0;
+                for (Rendered row : renderedRows) {
+                    if (writer.apply(row.source().id(), row.html()) > 0) {
+                        // Cached details and threads still hold the NULL html; listeners drop or patch them after commit.
+                        eventPublisher.publishEvent(row.source().changed());
+                        filled++;
+                    }
+                }
+                return filled;
+            });
+            rendered += updated != null ? updated : 0;
+            afterId = rows.get(rows.size() - 1).id();
+            if (rows.size() < CHUNK_SIZE) {
+                return rendered;
+            }
+        }
+    }
+
+    private record Row(Long id, String markdown, Object changed) {
+    }
+
+    private record Rendered(Row source, String html) {
+    }
+}
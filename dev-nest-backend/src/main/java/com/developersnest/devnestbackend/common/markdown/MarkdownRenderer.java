@@ -0,0 +1,74 @@
+package com.developersnest.devnestbackend.common.markdown;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.List;
+import org.commonmark.Extension;
+import org.commonmark.ext.autolink.AutolinkExtension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.node.Link;
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders Markdown to HTML once at write time. Raw HTML in the source is escaped and link/image URLs
+ * are restricted to safe schemes, so the output can be shipped to clients as-is.
+ */
+@Component
+public class MarkdownRenderer {
+
+    private final Parser parser;
+    private final HtmlRenderer renderer;
+
+    public MarkdownRenderer() {
+        List<Extension> extensions = List.of(
+                AutolinkExtension.create(),
+                StrikethroughExtension.create(),
+                TablesExtension.create()
+        );
+        this.parser = Parser.builder()
+                .extensions(extensions)
+                .build();
+        this.renderer = HtmlRenderer.builder()
+                .extensions(extensions)
+                .escapeHtml(true)
+                .sanitizeUrls(true)
+                .attributeProviderFactory(context -> (node, tagName, attributes) -> {
+                    if (node instanceof Link) {
+                        attributes.put("target", "_blank");
+                        attributes.put("rel", "noopener noreferrer");
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * HTML for {@code markdown}, or {@code null} for {@code null}. Blank input renders to an empty string, so a
+     * stored blank body counts as rendered.
+     */
+    public String render(String markdown) {
+        if (markdown == null) {
+            return null;
+        }
+        if (markdown.isBlank()) {
+            return "";
+        }
+        StringBuilder html = new StringBuilder(markdown.length() + (markdown.length() >> 2));
+        render(new StringReader(markdown), html);
+        return html.toString();
+    }
+
+    public void render(Reader markdown, Appendable html) {
+        try {
+            Node document = parser.parseReader(markdown);
+            renderer.render(document, html);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
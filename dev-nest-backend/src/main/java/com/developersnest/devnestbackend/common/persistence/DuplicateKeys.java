@@ -0,0 +1,28 @@
+package com.developersnest.devnestbackend.common.persistence;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import org.springframework.dao.DataIntegrityViolationException;
+
+public final class DuplicateKeys {
+
+    private DuplicateKeys() {
+    }
+
+    /**
+     * Whether {@code ex} is a primary key or unique violation on {@code table}, as opposed to a foreign key or
+     * other constraint. SQL Server reports 2627/2601, H2 SQLState 23505.
+     */
+    public static boolean isDuplicateKey(DataIntegrityViolationException ex, String table) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                boolean duplicate = sqlException.getErrorCode() == 2627
+                        || sqlException.getErrorCode() == 2601
+                        || "23505".equals(sqlException.getSQLState());
+                String message = sqlException.getMessage();
+                return duplicate && message != null && message.toUpperCase(Locale.ROOT).contains(table);
+            }
+        }
+        return false;
+    }
+}
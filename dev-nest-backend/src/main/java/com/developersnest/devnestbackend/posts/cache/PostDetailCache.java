@@ -0,0 +1,59 @@
+package com.developersnest.devnestbackend.posts.cache;
+
+import com.developersnest.devnestbackend.posts.config.PostProperties;
+import com.developersnest.devnestbackend.posts.dto.PostDetailResponse;
+import com.developersnest.devnestbackend.posts.event.PostChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Slug-keyed cache of assembled post details, bounded by the amount of text held (W-TinyLFU eviction).
+ * Cached entries carry the engagement counts seen at load time; callers overlay live counts on read.
+ */
+@Component
+public class PostDetailCache {
+
+    private static final int ENTRY_OVERHEAD = 512;
+
+    private final Cache<String, PostDetailResponse> cache;
+
+    public PostDetailCache(PostProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getDetailCacheMaxWeight())
+                .weigher((String slug, PostDetailResponse detail) -> weigh(detail))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postDetail");
+    }
+
+    public PostDetailResponse get(String slug, Function<String, PostDetailResponse> loader) {
+        return cache.get(slug, loader);
+    }
+
+    public void invalidate(String slug) {
+        if (slug != null) {
+            cache.invalidate(slug);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        invalidate(event.slug());
+    }
+
+    private static int weigh(PostDetailResponse detail) {
+        long weight = ENTRY_OVERHEAD + length(detail.title()) + length(detail.summary()) + length(detail.content())
+                + length(detail.contentHtml());
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
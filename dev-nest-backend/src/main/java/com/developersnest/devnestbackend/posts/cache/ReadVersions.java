@@ -0,0 +1,100 @@
+package com.developersnest.devnestbackend.posts.cache;
+
+import com.developersnest.devnestbackend.posts.dto.PostDetailResponse;
+import com.developersnest.devnestbackend.posts.event.PostChangedEvent;
+import com.developersnest.devnestbackend.posts.event.PostCommentsChangedEvent;
+import com.developersnest.devnestbackend.posts.event.PostLikedEvent;
+import com.developersnest.devnestbackend.posts.event.PostViewsFlushedEvent;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Validators for conditional GETs. Lists use one global version that moves on any post, like, comment or
+ * view flush; comment threads use a version per post. Both are prefixed with a per-process nonce, so tags
+ * handed out before a restart never match again.
+ */
+@Component
+public class ReadVersions {
+
+    private final String nonce = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLong postsVersion = new AtomicLong();
+    private final Map<Long, AtomicLong> commentVersions = new ConcurrentHashMap<>();
+    private final AtomicLong commentsEpoch = new AtomicLong();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        postsVersion.incrementAndGet();
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            commentVersions.remove(event.postId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostLiked(PostLikedEvent event) {
+        postsVersion.incrementAndGet();
+    }
+
+    @EventListener
+    public void onViewsFlushed(PostViewsFlushedEvent event) {
+        postsVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentsChanged(PostCommentsChangedEvent event) {
+        // Listings carry each post's comment count.
+        postsVersion.incrementAndGet();
+        commentVersions.computeIfAbsent(event.postId(), key -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Moves every comment tag at once, for when counters were rewritten outside the per-comment events.
+     */
+    public void invalidateComments() {
+        commentsEpoch.incrementAndGet();
+    }
+
+    /**
+     * Tag for a post listing. {@code parts} are the request parameters that shape the response.
+     */
+    public String postsTag(Object... parts) {
+        return "\"p-" + nonce + "-" + postsVersion.get() + "-" + digest(parts) + "\"";
+    }
+
+    /**
+     * Tag for a page of a post's comments. {@code parts} identify the page (thread, cursor, size).
+     */
+    public String commentsTag(Long postId, Long viewerId, Object... parts) {
+        AtomicLong version = commentVersions.get(postId);
+        return "\"c-" + nonce + "-" + commentsEpoch.get() + "-" + postId + "-" + (version != null ? version.get() : 0L) + "-"
+                + Objects.toString(viewerId, "anon") + "-" + digest(parts) + "\"";
+    }
+
+    /**
+     * Derived from the post's id and {@code updatedAt} only, so it stays valid across restarts and is not moved
+     * by other readers' views. Views, likes and comment counts in a revalidated body can therefore be stale;
+     * clients read live numbers from the engagement endpoints.
+     */
+    public static String detailTag(PostDetailResponse detail) {
+        long updatedAt = detail.updatedAt() != null
+                ? detail.updatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L;
+        return "\"d-" + detail.id() + "-" + updatedAt + "\"";
+    }
+
+    private static String digest(Object... parts) {
+        String joined = Stream.of(parts).map(part -> Objects.toString(part, "")).collect(Collectors.joining("\u0000"));
+        return DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8));
+    }
+}
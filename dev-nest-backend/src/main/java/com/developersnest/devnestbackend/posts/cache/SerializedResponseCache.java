@@ -0,0 +1,151 @@
+package com.developersnest.devnestbackend.posts.cache;
+
+import com.developersnest.devnestbackend.posts.config.PostProperties;
+import com.developersnest.devnestbackend.posts.dto.PostDetailResponse;
+import com.developersnest.devnestbackend.posts.event.PostChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Ready-to-write JSON bodies for the hottest reads, bounded by the bytes held.
+ *
+ * <p>List bodies are keyed by their {@link ReadVersions} tag, so any post write, like or view flush moves
+ * readers to a fresh key; they are also gzipped once at store time. Detail bodies are stored without the
+ * engagement and comment counts, which change on every view or comment, and the counts are appended when the
+ * body is written.
+ */
+@Component
+public class SerializedResponseCache {
+
+    private static final String LIST_PREFIX = "l:";
+    private static final String DETAIL_PREFIX = "d:";
+    private static final int ENTRY_OVERHEAD = 128;
+    // Below this, gzip framing costs more than it saves.
+    private static final int MIN_GZIP_LENGTH = 1024;
+
+    private final Cache<String, Entry> cache;
+    private final ObjectMapper objectMapper;
+    private final boolean gzipEnabled;
+
+    public SerializedResponseCache(PostProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.gzipEnabled = properties.isSerializedCacheGzip();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getSerializedCacheMaxBytes())
+                .weigher((String key, Entry entry) -> entry.weight())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "serializedPosts");
+        Gauge.builder("devnest.cache.hit.ratio", cache, held -> held.stats().hitRate())
+                .tag("cache", "serializedPosts")
+                .register(meterRegistry);
+        Gauge.builder("devnest.cache.bytes", cache, held -> held.policy().eviction()
+                        .map(eviction -> (double) eviction.weightedSize().orElse(0L))
+                        .orElse(0.0))
+                .tag("cache", "serializedPosts")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Serialized list body for {@code tag}, built from {@code loader} on a miss.
+     */
+    public Body list(String tag, Supplier<Object> loader) {
+        Entry entry = cache.get(LIST_PREFIX + tag, key -> {
+            byte[] json = write(loader.get());
+            return new Entry(json, gzipEnabled ? gzip(json) : null, null, null);
+        });
+        return new Body(entry.json(), entry.gzipped());
+    }
+
+    /**
+     * Serialized detail with the live engagement counts of {@code detail}. The cached part is reused as long
+     * as the post has not been updated since it was built.
+     */
+    public Body detail(PostDetailResponse detail) {
+        String key = DETAIL_PREFIX + detail.slug();
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null || !Objects.equals(entry.postId(), detail.id()) || !Objects.equals(entry.updatedAt(), detail.updatedAt())) {
+            entry = new Entry(detailWithoutEngagement(detail), null, detail.id(), detail.updatedAt());
+            cache.put(key, entry);
+        }
+        byte[] suffix = (",\"views\":" + detail.views() + ",\"likes\":" + detail.likes()
+                + ",\"commentsCount\":" + detail.commentsCount()
+                + ",\"lastCommentAt\":" + new String(write(detail.lastCommentAt()), StandardCharsets.UTF_8) + "}")
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] json = Arrays.copyOf(entry.json(), entry.json().length + suffix.length);
+        System.arraycopy(suffix, 0, json, entry.json().length, suffix.length);
+        return new Body(json, null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.slug() != null) {
+            cache.invalidate(DETAIL_PREFIX + event.slug());
+        }
+        // List keys already carry the posts version; dropping them just frees the space early.
+        cache.asMap().keySet().removeIf(key -> key.startsWith(LIST_PREFIX));
+    }
+
+    /**
+     * The detail as a JSON object without its engagement and comment counts and without its closing brace.
+     */
+    private byte[] detailWithoutEngagement(PostDetailResponse detail) {
+        ObjectNode node = objectMapper.valueToTree(detail);
+        node.remove("views");
+        node.remove("likes");
+        node.remove("commentsCount");
+        node.remove("lastCommentAt");
+        byte[] json = write(node);
+        return Arrays.copyOf(json, json.length - 1);
+    }
+
+    private byte[] write(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize cached response", ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        if (json.length < MIN_GZIP_LENGTH) {
+            return null;
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+
+    public record Body(byte[] json, byte[] gzipped) {
+    }
+
+    private record Entry(byte[] json, byte[] gzipped, Long postId, LocalDateTime updatedAt) {
+
+        int weight() {
+            return ENTRY_OVERHEAD + json.length + (gzipped != null ? gzipped.length : 0);
+        }
+    }
+}
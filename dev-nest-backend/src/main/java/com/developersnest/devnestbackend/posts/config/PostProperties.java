@@ -0,0 +1,59 @@
+package com.developersnest.devnestbackend.posts.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "devnest.posts")
+public class PostProperties {
+
+    /**
+     * Delay in milliseconds between flushes of buffered post views to the database.
+     */
+    private long viewFlushIntervalMs = 5000;
+
+    /**
+     * Upper bound of the post detail cache, weighed by the characters each cached post holds.
+     */
+    private long detailCacheMaxWeight = 32L * 1024 * 1024;
+
+    /**
+     * Upper bound in bytes of the pre-serialized response cache for latest posts and post details.
+     */
+    private long serializedCacheMaxBytes = 16L * 1024 * 1024;
+
+    /**
+     * Whether cached list bodies are also kept gzipped for clients that accept it.
+     */
+    private boolean serializedCacheGzip = true;
+
+    public long getViewFlushIntervalMs() {
+        return viewFlushIntervalMs;
+    }
+
+    public void setViewFlushIntervalMs(long viewFlushIntervalMs) {
+        this.viewFlushIntervalMs = viewFlushIntervalMs;
+    }
+
+    public long getDetailCacheMaxWeight() {
+        return detailCacheMaxWeight;
+    }
+
+    public void setDetailCacheMaxWeight(long detailCacheMaxWeight) {
+        this.detailCacheMaxWeight = detailCacheMaxWeight;
+    }
+
+    public long getSerializedCacheMaxBytes() {
+        return serializedCacheMaxBytes;
+    }
+
+    public void setSerializedCacheMaxBytes(long serializedCacheMaxBytes) {
+        this.serializedCacheMaxBytes = serializedCacheMaxBytes;
+    }
+
+    public boolean isSerializedCacheGzip() {
+        return serializedCacheGzip;
+    }
+
+    public void setSerializedCacheGzip(boolean serializedCacheGzip) {
+        this.serializedCacheGzip = serializedCacheGzip;
+    }
+}
@@ -0,0 +1,39 @@
+package com.developersnest.devnestbackend.posts.controller;
+
+import com.developersnest.devnestbackend.posts.dto.PostImportResult;
+import com.developersnest.devnestbackend.posts.service.PostBulkService;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/admin/posts")
+@RequiredArgsConstructor
+public class PostBulkController {
+
+    private final PostBulkService postBulkService;
+
+    /**
+     * Reads the request body as a stream, so the upload is never held in memory as a whole.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public PostImportResult importPosts(HttpServletRequest request) throws IOException {
+        return postBulkService.importPosts(request.getInputStream());
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPosts() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts.ndjson\"")
+                .body(postBulkService::exportPosts);
+    }
+}
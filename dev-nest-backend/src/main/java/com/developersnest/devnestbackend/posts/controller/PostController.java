@@ -1,18 +1,28 @@
 package com.developersnest.devnestbackend.posts.controller;
 
 import com.developersnest.devnestbackend.auth.security.UserPrincipal;
+import com.developersnest.devnestbackend.posts.cache.AcceptEncoding;
+import com.developersnest.devnestbackend.posts.cache.ReadVersions;
+import com.developersnest.devnestbackend.posts.cache.SerializedResponseCache;
+import com.developersnest.devnestbackend.posts.cache.SerializedResponseCache.Body;
 import com.developersnest.devnestbackend.posts.dto.PostDetailResponse;
+import com.developersnest.devnestbackend.posts.dto.PostEngagementItem;
 import com.developersnest.devnestbackend.posts.dto.PostEngagementResponse;
 import com.developersnest.devnestbackend.posts.dto.PostListResponse;
 import com.developersnest.devnestbackend.posts.dto.PostSummaryResponse;
 import com.developersnest.devnestbackend.posts.dto.PostWriteRequest;
 import com.developersnest.devnestbackend.posts.service.PostService;
 import jakarta.validation.Valid;
+import java.time.ZoneId;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -22,6 +32,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 @RestController
@@ -30,24 +41,94 @@ import org.springframework.web.server.ResponseStatusException;
 public class PostController {
 
     private final PostService postService;
+    private final ReadVersions readVersions;
+    private final SerializedResponseCache serializedResponseCache;
 
     @GetMapping
-    public PostListResponse listPosts(
+    public ResponseEntity<PostListResponse> listPosts(
             @RequestParam(name = "page", required = false) Integer page,
             @RequestParam(name = "size", required = false) Integer size,
-            @RequestParam(name = "keyword", required = false) String keyword
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "withTotal", defaultValue = "false") boolean withTotal,
+            @RequestParam(name = "sort", required = false) String sort,
+            @RequestParam(name = "tag", required = false) String tag,
+            @RequestParam(name = "includeViewerState", defaultValue = "false") boolean includeViewerState,
+            @AuthenticationPrincipal UserPrincipal principal,
+            WebRequest webRequest
+    ) {
+        Long viewerId = includeViewerState && principal != null ? principal.getId() : null;
+        String etag = readVersions.postsTag(page, size, keyword, cursor, withTotal, sort, tag, includeViewerState, viewerId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        PostListResponse response;
+        if (StringUtils.hasText(tag)) {
+            response = postService.getPostsByTag(tag, cursor, size, withTotal);
+        } else if ("relevance".equalsIgnoreCase(sort)) {
+            response = postService.searchRanked(page, size, keyword);
+        } else if (cursor != null) {
+            response = postService.getPostsByCursor(cursor, size, keyword, withTotal);
+        } else {
+            response = postService.getPosts(page, size, keyword);
+        }
+        if (includeViewerState) {
+            response = postService.withViewerState(response, viewerId);
+        }
+        return revalidated(etag).body(response);
+    }
+
+    @GetMapping("/engagement")
+    public List<PostEngagementItem> getEngagements(
+            @RequestParam(name = "ids") List<Long> postIds,
+            @AuthenticationPrincipal UserPrincipal principal
     ) {
-        return postService.getPosts(page, size, keyword);
+        Long viewerId = principal != null ? principal.getId() : null;
+        return postService.getEngagements(postIds, viewerId);
     }
 
     @GetMapping("/latest")
-    public List<PostSummaryResponse> latestPosts(@RequestParam(name = "limit", defaultValue = "10") int limit) {
-        return postService.getLatest(limit);
+    public ResponseEntity<byte[]> latestPosts(
+            @RequestParam(name = "limit", defaultValue = "10") int limit,
+            WebRequest webRequest
+    ) {
+        // Clamped before keying, so out-of-range limits share the entry of the limit actually served.
+        int size = PostService.latestSize(limit);
+        String etag = readVersions.postsTag("latest", size);
+        // Served gzipped or not under one tag, which only a weak validator may do.
+        String weakEtag = "W/" + etag;
+        if (webRequest.checkNotModified(weakEtag)) {
+            return null;
+        }
+        return serialized(revalidated(weakEtag), serializedResponseCache.list(etag, () -> postService.getLatest(size)), webRequest);
+    }
+
+    @GetMapping("/trending")
+    public List<PostSummaryResponse> trendingPosts(
+            @RequestParam(name = "window", required = false) String window,
+            @RequestParam(name = "limit", required = false) Integer limit
+    ) {
+        return postService.getTrending(window, limit);
     }
 
     @GetMapping("/slug/{slug}")
-    public PostDetailResponse getBySlug(@PathVariable String slug) {
-        return postService.getPostDetail(slug);
+    public ResponseEntity<byte[]> getBySlug(@PathVariable String slug, WebRequest webRequest) {
+        PostDetailResponse detail = postService.findPostDetail(slug);
+        long lastModified = detail.updatedAt() != null
+                ? detail.updatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1L;
+        postService.recordView(detail.id());
+        if (webRequest.checkNotModified(ReadVersions.detailTag(detail), lastModified)) {
+            return null;
+        }
+        // Include the view just recorded.
+        PostDetailResponse viewed = detail.withEngagement(detail.views() + 1, detail.likes());
+        return serialized(
+                revalidated(ReadVersions.detailTag(viewed)).lastModified(lastModified),
+                serializedResponseCache.detail(viewed),
+                webRequest
+        );
     }
 
     @GetMapping("/{postId}/engagement")
@@ -122,15 +203,35 @@ public class PostController {
         return postService.unlikePost(postId, userId);
     }
 
+    private static ResponseEntity.BodyBuilder revalidated(String etag) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .varyBy(HttpHeaders.AUTHORIZATION);
+    }
+
+    private static ResponseEntity<byte[]> serialized(ResponseEntity.BodyBuilder builder, Body body, WebRequest webRequest) {
+        builder.contentType(MediaType.APPLICATION_JSON).varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (body.gzipped() != null && AcceptEncoding.allowsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzipped());
+        }
+        return builder.body(body.json());
+    }
+
     @GetMapping("/me")
     public PostListResponse myPosts(
             @AuthenticationPrincipal UserPrincipal principal,
             @RequestParam(name = "page", required = false) Integer page,
-            @RequestParam(name = "size", required = false) Integer size
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "withTotal", defaultValue = "false") boolean withTotal
     ) {
         if (principal == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
         }
+        if (cursor != null) {
+            return postService.getPostsByAuthorCursor(principal.getId(), cursor, size, withTotal);
+        }
         return postService.getPostsByAuthor(principal.getId(), page, size);
     }
 }
@@ -0,0 +1,23 @@
+package com.developersnest.devnestbackend.posts.controller;
+
+import com.developersnest.devnestbackend.posts.dto.TagResponse;
+import com.developersnest.devnestbackend.posts.service.TagService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/tags")
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TagService tagService;
+
+    @GetMapping
+    public List<TagResponse> listTags(@RequestParam(name = "limit", required = false) Integer limit) {
+        return tagService.getPopularTags(limit);
+    }
+}
@@ -0,0 +1,24 @@
+package com.developersnest.devnestbackend.posts.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One line of the NDJSON post import/export format. {@code author} is the author's username.
+ */
+public record PostBulkRecord(
+        String slug,
+        String title,
+        String summary,
+        String heroImageUrl,
+        boolean pinned,
+        String author,
+        String content,
+        List<String> tags,
+        long views,
+        long likes,
+        LocalDateTime publishedAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -9,15 +9,28 @@ public record PostDetailResponse(
         String slug,
         String summary,
         String content,
+        String contentHtml,
         List<String> tags,
         String heroImageUrl,
         Author author,
         long views,
         long likes,
+        long commentsCount,
+        LocalDateTime lastCommentAt,
         LocalDateTime publishedAt,
         LocalDateTime updatedAt
 ) {
 
+    public PostDetailResponse withEngagement(long views, long likes) {
+        return new PostDetailResponse(id, title, slug, summary, content, contentHtml, tags, heroImageUrl, author,
+                views, likes, commentsCount, lastCommentAt, publishedAt, updatedAt);
+    }
+
+    public PostDetailResponse withComments(long commentsCount, LocalDateTime lastCommentAt) {
+        return new PostDetailResponse(id, title, slug, summary, content, contentHtml, tags, heroImageUrl, author,
+                views, likes, commentsCount, lastCommentAt, publishedAt, updatedAt);
+    }
+
     public record Author(
             Long id,
             String username,
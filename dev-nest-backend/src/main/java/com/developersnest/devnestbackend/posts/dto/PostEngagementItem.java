@@ -0,0 +1,9 @@
+package com.developersnest.devnestbackend.posts.dto;
+
+public record PostEngagementItem(
+        Long postId,
+        long views,
+        long likes,
+        boolean liked
+) {
+}
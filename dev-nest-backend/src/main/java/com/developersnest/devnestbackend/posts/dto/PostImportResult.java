@@ -0,0 +1,10 @@
+package com.developersnest.devnestbackend.posts.dto;
+
+import java.util.List;
+
+public record PostImportResult(
+        long imported,
+        long skipped,
+        List<String> errors
+) {
+}
@@ -2,13 +2,35 @@ package com.developersnest.devnestbackend.posts.dto;
 
 import java.util.List;
 
+/**
+ * {@code likedPostIds} is only filled when the caller asks for viewer state; otherwise it is null.
+ */
 public record PostListResponse(
         List<PostSummaryResponse> items,
-        long totalElements,
-        int totalPages,
+        Long totalElements,
+        Integer totalPages,
         int page,
         int size,
         long totalViews,
-        long totalLikes
+        long totalLikes,
+        String nextCursor,
+        List<Long> likedPostIds
 ) {
+
+    public PostListResponse(
+            List<PostSummaryResponse> items,
+            Long totalElements,
+            Integer totalPages,
+            int page,
+            int size,
+            long totalViews,
+            long totalLikes,
+            String nextCursor
+    ) {
+        this(items, totalElements, totalPages, page, size, totalViews, totalLikes, nextCursor, null);
+    }
+
+    public PostListResponse withLikedPostIds(List<Long> likedPostIds) {
+        return new PostListResponse(items, totalElements, totalPages, page, size, totalViews, totalLikes, nextCursor, likedPostIds);
+    }
 }
@@ -12,6 +12,8 @@ public record PostSummaryResponse(
         String authorName,
         long views,
         long likes,
+        long commentsCount,
+        LocalDateTime lastCommentAt,
         LocalDateTime publishedAt,
         LocalDateTime updatedAt
 ) {
@@ -0,0 +1,8 @@
+package com.developersnest.devnestbackend.posts.dto;
+
+public record TagResponse(
+        String name,
+        String slug,
+        long postCount
+) {
+}
@@ -0,0 +1,35 @@
+package com.developersnest.devnestbackend.posts.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Per-author totals maintained incrementally by post, metrics and comment writes.
+ * {@code AuthorStatsRepairJob} recomputes them from the source tables.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "author_stats")
+public class AuthorStatsEntity {
+
+    @Id
+    @Column(name = "author_id")
+    private Long id;
+
+    @Column(name = "posts_count", nullable = false)
+    private long postsCount;
+
+    @Column(name = "views_count", nullable = false)
+    private long viewsCount;
+
+    @Column(name = "likes_count", nullable = false)
+    private long likesCount;
+
+    @Column(name = "comments_received", nullable = false)
+    private long commentsReceived;
+}
@@ -0,0 +1,42 @@
+package com.developersnest.devnestbackend.posts.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
+
+@Getter
+@Setter
+@Entity
+@DynamicUpdate
+@Table(name = "post_contents")
+public class PostContentEntity {
+
+    @Id
+    @Column(name = "post_id")
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @MapsId
+    @JoinColumn(name = "post_id")
+    private PostEntity post;
+
+    @Column(name = "content_markdown", columnDefinition = "NVARCHAR(MAX)", nullable = false)
+    private String contentMarkdown;
+
+    @Column(name = "content_html", columnDefinition = "NVARCHAR(MAX)")
+    private String contentHtml;
+
+    /**
+     * Hex SHA-256 of {@code contentMarkdown}; lets updates skip unchanged bodies without comparing them.
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+}
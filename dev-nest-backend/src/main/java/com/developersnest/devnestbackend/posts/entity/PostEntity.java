@@ -15,22 +15,28 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "posts")
+@DynamicUpdate
+@Table(name = "posts", uniqueConstraints = @UniqueConstraint(name = "UQ_posts_slug", columnNames = "slug"))
 public class PostEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_seq")
+    @SequenceGenerator(name = "posts_seq", sequenceName = "posts_seq", allocationSize = 50)
     @Column(name = "post_id")
     private Long id;
 
@@ -41,18 +47,12 @@ public class PostEntity {
     @Column(nullable = false, length = 200)
     private String title;
 
-    @Column(nullable = false, length = 220, unique = true)
+    @Column(nullable = false, length = 220)
     private String slug;
 
     @Column(length = 500)
     private String summary;
 
-    @Column(name = "content_markdown", columnDefinition = "NVARCHAR(MAX)", nullable = false)
-    private String contentMarkdown;
-
-    @Column(name = "content_html", columnDefinition = "NVARCHAR(MAX)")
-    private String contentHtml;
-
     @Column(name = "hero_image_url", length = 400)
     private String heroImageUrl;
 
@@ -102,15 +102,18 @@ public class PostEntity {
         }
     }
 
+    /**
+     * Only the owning side is maintained; touching {@code TagEntity.posts} would load every post of the tag.
+     */
     public void addTag(TagEntity tag) {
         this.tags.add(tag);
-        tag.getPosts().add(this);
+    }
+
+    public void retainTags(Collection<Long> tagIds) {
+        tags.removeIf(tag -> !tagIds.contains(tag.getId()));
     }
 
     public void clearTags() {
-        for (TagEntity tag : tags) {
-            tag.getPosts().remove(this);
-        }
         tags.clear();
     }
 }
@@ -39,6 +39,13 @@ public class PostMetricsEntity {
     @Column(name = "last_like_at")
     private LocalDateTime lastLikeAt;
 
+    // Moved only by PostMetricsRepository#adjustComments, never by an entity flush.
+    @Column(name = "comments_count", nullable = false, updatable = false)
+    private long commentsCount;
+
+    @Column(name = "last_comment_at", updatable = false)
+    private LocalDateTime lastCommentAt;
+
     public void incrementViews() {
         this.viewsCount++;
         this.lastViewAt = LocalDateTime.now();
@@ -0,0 +1,54 @@
+package com.developersnest.devnestbackend.posts.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Checkpoint of the in-memory trending scores, decayed to {@code scoredAt}.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "post_trending_scores")
+public class PostTrendingScoreEntity implements Persistable<Long> {
+
+    @Id
+    @Column(name = "post_id")
+    private Long id;
+
+    @Column(name = "day_score", nullable = false)
+    private double dayScore;
+
+    @Column(name = "week_score", nullable = false)
+    private double weekScore;
+
+    @Column(name = "month_score", nullable = false)
+    private double monthScore;
+
+    @Column(name = "scored_at", nullable = false)
+    private LocalDateTime scoredAt;
+
+    // Checkpoints always replace the table, so skip the select that merge would issue for an assigned id.
+    @Transient
+    private boolean fresh = true;
+
+    @Override
+    public boolean isNew() {
+        return fresh;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.fresh = false;
+    }
+}
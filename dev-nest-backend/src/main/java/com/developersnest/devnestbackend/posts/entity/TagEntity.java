@@ -8,7 +8,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -18,18 +20,19 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "tags")
+@Table(name = "tags", uniqueConstraints = @UniqueConstraint(name = "UQ_tags_slug", columnNames = "slug"))
 public class TagEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tags_seq")
+    @SequenceGenerator(name = "tags_seq", sequenceName = "tags_seq", allocationSize = 50)
     @Column(name = "tag_id")
     private Long id;
 
     @Column(name = "name", nullable = false, length = 80)
     private String name;
 
-    @Column(name = "slug", nullable = false, length = 80, unique = true)
+    @Column(name = "slug", nullable = false, length = 80)
     private String slug;
 
     @Column(name = "description", length = 300)
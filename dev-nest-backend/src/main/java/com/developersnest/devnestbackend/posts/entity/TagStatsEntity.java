@@ -0,0 +1,31 @@
+package com.developersnest.devnestbackend.posts.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "tag_stats")
+public class TagStatsEntity {
+
+    @Id
+    @Column(name = "tag_id")
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @MapsId
+    @JoinColumn(name = "tag_id")
+    private TagEntity tag;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+}
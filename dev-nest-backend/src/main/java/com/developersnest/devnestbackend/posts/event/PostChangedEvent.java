@@ -0,0 +1,17 @@
+package com.developersnest.devnestbackend.posts.event;
+
+import com.developersnest.devnestbackend.posts.dto.PostDetailResponse;
+
+public record PostChangedEvent(
+        Long postId,
+        String slug,
+        Type type,
+        PostDetailResponse post
+) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
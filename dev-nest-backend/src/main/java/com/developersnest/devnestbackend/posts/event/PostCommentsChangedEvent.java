@@ -0,0 +1,11 @@
+package com.developersnest.devnestbackend.posts.event;
+
+/**
+ * Published when a comment of the post (or a reaction on one) is created, edited or removed.
+ * {@code commentId} is the comment that changed.
+ */
+public record PostCommentsChangedEvent(
+        Long postId,
+        Long commentId
+) {
+}
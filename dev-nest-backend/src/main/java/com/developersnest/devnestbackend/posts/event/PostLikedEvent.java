@@ -0,0 +1,10 @@
+package com.developersnest.devnestbackend.posts.event;
+
+/**
+ * Published when a like is added ({@code delta = 1}) or removed ({@code delta = -1}).
+ */
+public record PostLikedEvent(
+        Long postId,
+        int delta
+) {
+}
@@ -0,0 +1,6 @@
+package com.developersnest.devnestbackend.posts.event;
+
+public record PostViewedEvent(
+        Long postId
+) {
+}
@@ -0,0 +1,8 @@
+package com.developersnest.devnestbackend.posts.event;
+
+import java.util.Set;
+
+public record PostViewsFlushedEvent(
+        Set<Long> postIds
+) {
+}
@@ -3,9 +3,12 @@ package com.developersnest.devnestbackend.posts.mapper;
 import com.developersnest.devnestbackend.auth.entity.UserEntity;
 import com.developersnest.devnestbackend.posts.dto.PostDetailResponse;
 import com.developersnest.devnestbackend.posts.dto.PostSummaryResponse;
+import com.developersnest.devnestbackend.posts.entity.PostContentEntity;
 import com.developersnest.devnestbackend.posts.entity.PostEntity;
 import com.developersnest.devnestbackend.posts.entity.PostMetricsEntity;
 import com.developersnest.devnestbackend.posts.entity.TagEntity;
+import com.developersnest.devnestbackend.posts.repository.PostRepository;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -16,21 +19,41 @@ import org.mapstruct.Mapping;
 @Mapper(componentModel = "spring")
 public interface PostMapper {
 
-    @Mapping(target = "content", source = "contentMarkdown")
+    @Mapping(target = "id", source = "entity.id")
+    @Mapping(target = "content", source = "content.contentMarkdown")
+    @Mapping(target = "contentHtml", source = "content.contentHtml")
     @Mapping(target = "tags", expression = "java(mapTags(entity.getTags()))")
     @Mapping(target = "author", expression = "java(toAuthor(entity.getAuthor()))")
     @Mapping(target = "views", expression = "java(extractViews(entity.getMetrics()))")
     @Mapping(target = "likes", expression = "java(extractLikes(entity.getMetrics()))")
-    PostDetailResponse toDetail(PostEntity entity);
+    @Mapping(target = "commentsCount", expression = "java(extractCommentsCount(entity.getMetrics()))")
+    @Mapping(target = "lastCommentAt", expression = "java(extractLastCommentAt(entity.getMetrics()))")
+    PostDetailResponse toDetail(PostEntity entity, PostContentEntity content);
+
+    @Mapping(target = "id", source = "entity.id")
+    @Mapping(target = "content", source = "content.contentMarkdown")
+    @Mapping(target = "contentHtml", source = "content.contentHtml")
+    @Mapping(target = "tags", source = "tags")
+    @Mapping(target = "author", expression = "java(toAuthor(entity.getAuthor()))")
+    @Mapping(target = "views", expression = "java(extractViews(entity.getMetrics()))")
+    @Mapping(target = "likes", expression = "java(extractLikes(entity.getMetrics()))")
+    @Mapping(target = "commentsCount", expression = "java(extractCommentsCount(entity.getMetrics()))")
+    @Mapping(target = "lastCommentAt", expression = "java(extractLastCommentAt(entity.getMetrics()))")
+    PostDetailResponse toDetail(PostEntity entity, PostContentEntity content, List<String> tags);
 
     @Mapping(target = "tags", expression = "java(mapTags(entity.getTags()))")
     @Mapping(target = "authorName", expression = "java(extractAuthorName(entity.getAuthor()))")
     @Mapping(target = "views", expression = "java(extractViews(entity.getMetrics()))")
     @Mapping(target = "likes", expression = "java(extractLikes(entity.getMetrics()))")
+    @Mapping(target = "commentsCount", expression = "java(extractCommentsCount(entity.getMetrics()))")
+    @Mapping(target = "lastCommentAt", expression = "java(extractLastCommentAt(entity.getMetrics()))")
     PostSummaryResponse toSummary(PostEntity entity);
 
     List<PostSummaryResponse> toSummaryList(List<PostEntity> entities);
 
+    @Mapping(target = "tags", source = "tags")
+    PostSummaryResponse toSummary(PostRepository.PostSummaryRow row, List<String> tags);
+
     default PostDetailResponse.Author toAuthor(UserEntity user) {
         if (user == null) {
             return null;
@@ -64,4 +87,12 @@ public interface PostMapper {
     default long extractLikes(PostMetricsEntity metrics) {
         return metrics != null ? metrics.getLikesCount() : 0L;
     }
+
+    default long extractCommentsCount(PostMetricsEntity metrics) {
+        return metrics != null ? metrics.getCommentsCount() : 0L;
+    }
+
+    default LocalDateTime extractLastCommentAt(PostMetricsEntity metrics) {
+        return metrics != null ? metrics.getLastCommentAt() : null;
+    }
 }
@@ -0,0 +1,82 @@
+package com.developersnest.devnestbackend.posts.repository;
+
+import com.developersnest.devnestbackend.posts.entity.AuthorStatsEntity;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AuthorStatsRepository extends JpaRepository<AuthorStatsEntity, Long> {
+
+    @Modifying
+    @Query("""
+            UPDATE AuthorStatsEntity s
+            SET s.postsCount = s.postsCount + :posts,
+                s.viewsCount = s.viewsCount + :views,
+                s.likesCount = s.likesCount + :likes,
+                s.commentsReceived = s.commentsReceived + :comments
+            WHERE s.id = :authorId
+            """)
+    int adjust(
+            @Param("authorId") Long authorId,
+            @Param("posts") long posts,
+            @Param("views") long views,
+            @Param("likes") long likes,
+            @Param("comments") long comments
+    );
+
+    @Modifying
+    @Query("""
+            UPDATE AuthorStatsEntity s
+            SET s.viewsCount = s.viewsCount + :views,
+                s.likesCount = s.likesCount + :likes,
+                s.commentsReceived = s.commentsReceived + :comments
+            WHERE s.id = (SELECT p.author.id FROM PostEntity p WHERE p.id = :postId)
+            """)
+    int adjustForPost(
+            @Param("postId") Long postId,
+            @Param("views") long views,
+            @Param("likes") long likes,
+            @Param("comments") long comments
+    );
+
+    @Query("""
+            SELECT u.id FROM UserEntity u
+            WHERE u.id > :afterId
+            ORDER BY u.id ASC
+            """)
+    List<Long> findAuthorIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Rows for authors in {@code authorIds} who have posts but no stats row yet, all counters zero.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO author_stats (author_id, posts_count, views_count, likes_count, comments_received)
+            SELECT DISTINCT p.author_id, 0, 0, 0, 0
+            FROM posts p
+            WHERE p.author_id IN (:authorIds)
+              AND NOT EXISTS (SELECT 1 FROM author_stats s WHERE s.author_id = p.author_id)
+            """, nativeQuery = true)
+    int insertMissing(@Param("authorIds") Collection<Long> authorIds);
+
+    /**
+     * Recomputes every counter from the source tables in the statement that writes it, so an increment
+     * committed while the repair runs is either already counted or applied on top, never overwritten.
+     */
+    @Modifying
+    @Query("""
+            UPDATE AuthorStatsEntity s
+            SET s.postsCount = (SELECT COUNT(p) FROM PostEntity p WHERE p.author.id = s.id),
+                s.viewsCount = (SELECT COALESCE(SUM(m.viewsCount), 0) FROM PostMetricsEntity m WHERE m.post.author.id = s.id),
+                s.likesCount = (SELECT COALESCE(SUM(m.likesCount), 0) FROM PostMetricsEntity m WHERE m.post.author.id = s.id),
+                s.commentsReceived = (
+                    SELECT COUNT(c) FROM CommentEntity c WHERE c.post.author.id = s.id AND c.deleted = false
+                )
+            WHERE s.id IN :authorIds
+            """)
+    int recompute(@Param("authorIds") Collection<Long> authorIds);
+}
@@ -0,0 +1,32 @@
+package com.developersnest.devnestbackend.posts.repository;
+
+import com.developersnest.devnestbackend.posts.entity.PostContentEntity;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostContentRepository extends JpaRepository<PostContentEntity, Long> {
+
+    @Query("""
+            SELECT c.id AS id, c.post.slug AS slug, c.contentMarkdown AS markdown
+            FROM PostContentEntity c
+            WHERE c.contentHtml IS NULL AND c.id > :afterId
+            ORDER BY c.id ASC
+            """)
+    List<UnrenderedRow> findUnrendered(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE PostContentEntity c SET c.contentHtml = :html WHERE c.id = :postId AND c.contentHtml IS NULL")
+    int fillHtml(@Param("postId") Long postId, @Param("html") String html);
+
+    interface UnrenderedRow {
+        Long getId();
+
+        String getSlug();
+
+        String getMarkdown();
+    }
+}
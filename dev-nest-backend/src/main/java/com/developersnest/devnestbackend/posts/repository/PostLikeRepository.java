@@ -2,9 +2,30 @@ package com.developersnest.devnestbackend.posts.repository;
 
 import com.developersnest.devnestbackend.posts.entity.PostLikeEntity;
 import com.developersnest.devnestbackend.posts.entity.PostLikeId;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostLikeRepository extends JpaRepository<PostLikeEntity, PostLikeId> {
 
     long countByPost_Id(Long postId);
+
+    @Query("SELECT l.id.postId FROM PostLikeEntity l WHERE l.id.userId = :userId AND l.id.postId IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_likes (post_id, user_id, liked_at)
+            SELECT :postId, :userId, :likedAt
+            WHERE NOT EXISTS (SELECT 1 FROM post_likes WHERE post_id = :postId AND user_id = :userId)
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("userId") Long userId, @Param("likedAt") LocalDateTime likedAt);
+
+    @Modifying
+    @Query("DELETE FROM PostLikeEntity l WHERE l.id.postId = :postId AND l.id.userId = :userId")
+    int deleteLike(@Param("postId") Long postId, @Param("userId") Long userId);
 }
@@ -1,15 +1,84 @@
 package com.developersnest.devnestbackend.posts.repository;
 
 import com.developersnest.devnestbackend.posts.entity.PostMetricsEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface PostMetricsRepository extends JpaRepository<PostMetricsEntity, Long> {
 
-    @Query("SELECT COALESCE(SUM(m.viewsCount), 0) FROM PostMetricsEntity m WHERE m.post.author.id = :authorId")
-    long sumViewsByAuthor(@Param("authorId") Long authorId);
+    @Modifying
+    @Query("UPDATE PostMetricsEntity m SET m.viewsCount = m.viewsCount + :delta, m.lastViewAt = :viewedAt WHERE m.id = :postId")
+    int addViews(@Param("postId") Long postId, @Param("delta") long delta, @Param("viewedAt") LocalDateTime viewedAt);
 
-    @Query("SELECT COALESCE(SUM(m.likesCount), 0) FROM PostMetricsEntity m WHERE m.post.author.id = :authorId")
-    long sumLikesByAuthor(@Param("authorId") Long authorId);
+    /**
+     * Takes the row lock without changing the row, so a view flush already writing it finishes first and later
+     * ones wait for the caller's transaction.
+     */
+    @Modifying
+    @Query("UPDATE PostMetricsEntity m SET m.viewsCount = m.viewsCount WHERE m.id = :postId")
+    int lockRow(@Param("postId") Long postId);
+
+    @Query("SELECT m.viewsCount FROM PostMetricsEntity m WHERE m.id = :postId")
+    Optional<Long> findViewsCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE PostMetricsEntity m SET m.likesCount = m.likesCount + 1, m.lastLikeAt = :likedAt WHERE m.id = :postId")
+    int incrementLikes(@Param("postId") Long postId, @Param("likedAt") LocalDateTime likedAt);
+
+    @Modifying
+    @Query("UPDATE PostMetricsEntity m SET m.likesCount = m.likesCount - 1, m.lastLikeAt = :likedAt WHERE m.id = :postId AND m.likesCount > 0")
+    int decrementLikes(@Param("postId") Long postId, @Param("likedAt") LocalDateTime likedAt);
+
+    /**
+     * Moves {@code comments_count} by {@code delta} and re-reads {@code last_comment_at} from the newest live
+     * comment, so a delete or restore of the latest comment moves it as well. The comment change must be
+     * flushed first.
+     */
+    @Modifying
+    @Query("""
+            UPDATE PostMetricsEntity m
+            SET m.commentsCount = CASE WHEN m.commentsCount + :delta < 0 THEN 0L ELSE m.commentsCount + :delta END,
+                m.lastCommentAt = (
+                    SELECT MAX(c.createdAt) FROM CommentEntity c
+                    WHERE c.post.id = :postId AND c.deleted = false
+                )
+            WHERE m.id = :postId
+            """)
+    int adjustComments(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Query("""
+            SELECT m.viewsCount AS viewsCount, m.likesCount AS likesCount,
+                   m.commentsCount AS commentsCount, m.lastCommentAt AS lastCommentAt
+            FROM PostMetricsEntity m
+            WHERE m.id = :postId
+            """)
+    Optional<MetricsSnapshot> findSnapshot(@Param("postId") Long postId);
+
+    @Query("""
+            SELECT m.id AS postId, m.viewsCount AS viewsCount, m.likesCount AS likesCount,
+                   m.commentsCount AS commentsCount, m.lastCommentAt AS lastCommentAt
+            FROM PostMetricsEntity m
+            WHERE m.id IN :postIds
+            """)
+    List<PostMetricsSnapshot> findSnapshots(@Param("postIds") Collection<Long> postIds);
+
+    interface PostMetricsSnapshot extends MetricsSnapshot {
+        Long getPostId();
+    }
+
+    interface MetricsSnapshot {
+        long getViewsCount();
+
+        long getLikesCount();
+
+        long getCommentsCount();
+
+        LocalDateTime getLastCommentAt();
+    }
 }
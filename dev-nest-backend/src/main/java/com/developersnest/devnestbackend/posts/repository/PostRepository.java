@@ -1,6 +1,9 @@
 package com.developersnest.devnestbackend.posts.repository;
 
 import com.developersnest.devnestbackend.posts.entity.PostEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,12 +18,235 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
 
     boolean existsBySlug(String slug);
 
+    /**
+     * {@code baseSlug} itself and the slugs that continue it with a hyphen and a digit. {@code suffixPattern} is
+     * the LIKE-escaped base followed by {@code -%}, so the prefix stays seekable on the slug index.
+     */
     @Query("""
-            SELECT p FROM PostEntity p
+            SELECT p.slug FROM PostEntity p
+            WHERE p.slug = :baseSlug
+               OR (p.slug LIKE :suffixPattern ESCAPE '\\'
+                   AND SUBSTRING(p.slug, LENGTH(:baseSlug) + 2, 1) BETWEEN '0' AND '9')
+            """)
+    List<String> findSlugsWithBase(@Param("baseSlug") String baseSlug, @Param("suffixPattern") String suffixPattern);
+
+    @Query("""
+            SELECT p.slug FROM PostEntity p
+            WHERE (p.slug = :baseSlug
+                   OR (p.slug LIKE :suffixPattern ESCAPE '\\'
+                       AND SUBSTRING(p.slug, LENGTH(:baseSlug) + 2, 1) BETWEEN '0' AND '9'))
+              AND p.id <> :excludePostId
+            """)
+    List<String> findSlugsWithBaseExcluding(
+            @Param("baseSlug") String baseSlug,
+            @Param("suffixPattern") String suffixPattern,
+            @Param("excludePostId") Long excludePostId
+    );
+
+    @Query(value = """
+            SELECT p.id AS id, p.title AS title, p.slug AS slug, p.summary AS summary,
+                   a.displayName AS authorName,
+                   COALESCE(m.viewsCount, 0) AS views, COALESCE(m.likesCount, 0) AS likes,
+                   COALESCE(m.commentsCount, 0) AS commentsCount, m.lastCommentAt AS lastCommentAt,
+                   p.publishedAt AS publishedAt, p.updatedAt AS updatedAt
+            FROM PostEntity p
+            JOIN p.author a
+            LEFT JOIN p.metrics m
+            WHERE (:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(p.summary) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND p.publishedAt IS NOT NULL
+            ORDER BY p.publishedAt DESC, p.id DESC
+            """,
+            countQuery = """
+            SELECT COUNT(p) FROM PostEntity p
+            WHERE (:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(p.summary) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND p.publishedAt IS NOT NULL
+            """)
+    Page<PostSummaryRow> searchSummaries(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query("""
+            SELECT p.id AS id, p.title AS title, p.slug AS slug, p.summary AS summary,
+                   a.displayName AS authorName,
+                   COALESCE(m.viewsCount, 0) AS views, COALESCE(m.likesCount, 0) AS likes,
+                   COALESCE(m.commentsCount, 0) AS commentsCount, m.lastCommentAt AS lastCommentAt,
+                   p.publishedAt AS publishedAt, p.updatedAt AS updatedAt
+            FROM PostEntity p
+            JOIN p.author a
+            LEFT JOIN p.metrics m
+            WHERE (:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(p.summary) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND p.publishedAt IS NOT NULL
+            ORDER BY p.publishedAt DESC, p.id DESC
+            """)
+    List<PostSummaryRow> searchSummariesFirstPage(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * The page after a keyset cursor. Kept apart from {@link #searchSummariesFirstPage} so the predicate
+     * stays a plain range the optimizer can seek on instead of a catch-all {@code :publishedAt IS NULL OR}.
+     */
+    @Query("""
+            SELECT p.id AS id, p.title AS title, p.slug AS slug, p.summary AS summary,
+                   a.displayName AS authorName,
+                   COALESCE(m.viewsCount, 0) AS views, COALESCE(m.likesCount, 0) AS likes,
+                   COALESCE(m.commentsCount, 0) AS commentsCount, m.lastCommentAt AS lastCommentAt,
+                   p.publishedAt AS publishedAt, p.updatedAt AS updatedAt
+            FROM PostEntity p
+            JOIN p.author a
+            LEFT JOIN p.metrics m
             WHERE (:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(p.summary) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND p.publishedAt IS NOT NULL
+              AND (p.publishedAt < :publishedAt OR (p.publishedAt = :publishedAt AND p.id < :postId))
+            ORDER BY p.publishedAt DESC, p.id DESC
             """)
-    Page<PostEntity> search(@Param("keyword") String keyword, Pageable pageable);
+    List<PostSummaryRow> searchSummariesAfter(
+            @Param("keyword") String keyword,
+            @Param("publishedAt") LocalDateTime publishedAt,
+            @Param("postId") Long postId,
+            Pageable pageable
+    );
+
+    @Query("""
+            SELECT p.id AS id, p.title AS title, p.slug AS slug, p.summary AS summary,
+                   a.displayName AS authorName,
+                   COALESCE(m.viewsCount, 0) AS views, COALESCE(m.likesCount, 0) AS likes,
+                   COALESCE(m.commentsCount, 0) AS commentsCount, m.lastCommentAt AS lastCommentAt,
+                   p.publishedAt AS publishedAt, p.updatedAt AS updatedAt
+            FROM PostEntity p
+            JOIN p.tags t
+            JOIN p.author a
+            LEFT JOIN p.metrics m
+            WHERE t.id = :tagId
+              AND p.publishedAt IS NOT NULL
+            ORDER BY p.publishedAt DESC, p.id DESC
+            """)
+    List<PostSummaryRow> findSummariesByTagFirstPage(@Param("tagId") Long tagId, Pageable pageable);
+
+    @Query("""
+            SELECT p.id AS id, p.title AS title, p.slug AS slug, p.summary AS summary,
+                   a.displayName AS authorName,
+                   COALESCE(m.viewsCount, 0) AS views, COALESCE(m.likesCount, 0) AS likes,
+                   COALESCE(m.commentsCount, 0) AS commentsCount, m.lastCommentAt AS lastCommentAt,
+                   p.publishedAt AS publishedAt, p.updatedAt AS updatedAt
+            FROM PostEntity p
+            JOIN p.tags t
+            JOIN p.author a
+            LEFT JOIN p.metrics m
+            WHERE t.id = :tagId
+              AND p.publishedAt IS NOT NULL
+              AND (p.publishedAt < :publishedAt OR (p.publishedAt = :publishedAt AND p.id < :postId))
+            ORDER BY p.publishedAt DESC, p.id DESC
+            """)
+    List<PostSummaryRow> findSummariesByTagAfter(
+            @Param("tagId") Long tagId,
+            @Param("publishedAt") LocalDateTime publishedAt,
+            @Param("postId") Long postId,
+            Pageable pageable
+    );
+
+    @Query("""
+            SELECT p.id AS id, p.title AS title, p.slug AS slug, p.summary AS summary,
+                   a.displayName AS authorName,
+                   COALESCE(m.viewsCount, 0) AS views, COALESCE(m.likesCount, 0) AS likes,
+                   COALESCE(m.commentsCount, 0) AS commentsCount, m.lastCommentAt AS lastCommentAt,
+                   p.publishedAt AS publishedAt, p.updatedAt AS updatedAt
+            FROM PostEntity p
+            JOIN p.author a
+            LEFT JOIN p.metrics m
+            WHERE p.id IN :postIds
+              AND p.publishedAt IS NOT NULL
+            """)
+    List<PostSummaryRow> findSummariesByIds(@Param("postIds") Collection<Long> postIds);
+
+    @Query("""
+            SELECT p.id AS id, p.title AS title, p.summary AS summary, c.contentMarkdown AS content
+            FROM PostEntity p
+            JOIN PostContentEntity c ON c.id = p.id
+            WHERE p.id > :afterId
+              AND p.publishedAt IS NOT NULL
+            ORDER BY p.id ASC
+            """)
+    List<PostSearchRow> findSearchDocuments(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            SELECT p.id AS postId, t.name AS name
+            FROM PostEntity p
+            JOIN p.tags t
+            WHERE p.id IN :postIds
+            """)
+    List<PostTagRow> findTagNames(@Param("postIds") Collection<Long> postIds);
+
+    @Query("""
+            SELECT COUNT(p) FROM PostEntity p
+            WHERE (:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(p.summary) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND p.publishedAt IS NOT NULL
+            """)
+    long countSearch(@Param("keyword") String keyword);
 
     @EntityGraph(attributePaths = {"metrics", "tags"})
     Page<PostEntity> findByAuthor_Id(Long authorId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"author", "metrics"})
+    @Query("""
+            SELECT p FROM PostEntity p
+            WHERE p.author.id = :authorId
+            ORDER BY p.updatedAt DESC, p.id DESC
+            """)
+    List<PostEntity> findByAuthorFirstPage(@Param("authorId") Long authorId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"author", "metrics"})
+    @Query("""
+            SELECT p FROM PostEntity p
+            WHERE p.author.id = :authorId
+              AND (p.updatedAt < :updatedAt OR (p.updatedAt = :updatedAt AND p.id < :postId))
+            ORDER BY p.updatedAt DESC, p.id DESC
+            """)
+    List<PostEntity> findByAuthorAfter(
+            @Param("authorId") Long authorId,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("postId") Long postId,
+            Pageable pageable
+    );
+
+    long countByAuthor_Id(Long authorId);
+
+    @Query("SELECT COUNT(c) FROM CommentEntity c WHERE c.post.id = :postId AND c.deleted = false")
+    long countLiveComments(@Param("postId") Long postId);
+
+    interface PostSummaryRow {
+        Long getId();
+
+        String getTitle();
+
+        String getSlug();
+
+        String getSummary();
+
+        String getAuthorName();
+
+        long getViews();
+
+        long getLikes();
+
+        long getCommentsCount();
+
+        LocalDateTime getLastCommentAt();
+
+        LocalDateTime getPublishedAt();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    interface PostTagRow {
+        Long getPostId();
+
+        String getName();
+    }
+
+    interface PostSearchRow {
+        Long getId();
+
+        String getTitle();
+
+        String getSummary();
+
+        String getContent();
+    }
 }
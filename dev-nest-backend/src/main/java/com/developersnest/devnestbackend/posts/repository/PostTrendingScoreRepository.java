@@ -0,0 +1,13 @@
+package com.developersnest.devnestbackend.posts.repository;
+
+import com.developersnest.devnestbackend.posts.entity.PostTrendingScoreEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface PostTrendingScoreRepository extends JpaRepository<PostTrendingScoreEntity, Long> {
+
+    @Modifying
+    @Query("DELETE FROM PostTrendingScoreEntity s")
+    int deleteAllScores();
+}
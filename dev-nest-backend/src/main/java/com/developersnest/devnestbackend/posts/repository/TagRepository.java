@@ -5,10 +5,22 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface TagRepository extends JpaRepository<TagEntity, Long> {
 
     Optional<TagEntity> findBySlug(String slug);
 
     List<TagEntity> findBySlugIn(Collection<String> slugs);
+
+    @Query("SELECT t.id AS id, t.slug AS slug, t.name AS name FROM TagEntity t")
+    List<TagRow> findAllEntries();
+
+    interface TagRow {
+        Long getId();
+
+        String getSlug();
+
+        String getName();
+    }
 }
@@ -0,0 +1,36 @@
+package com.developersnest.devnestbackend.posts.repository;
+
+import com.developersnest.devnestbackend.posts.entity.TagStatsEntity;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TagStatsRepository extends JpaRepository<TagStatsEntity, Long> {
+
+    @Modifying
+    @Query("UPDATE TagStatsEntity s SET s.postCount = s.postCount + :delta WHERE s.id IN :tagIds")
+    int adjustPostCount(@Param("tagIds") Collection<Long> tagIds, @Param("delta") long delta);
+
+    @Query("""
+            SELECT t.id AS id, t.name AS name, t.slug AS slug, s.postCount AS postCount
+            FROM TagStatsEntity s
+            JOIN s.tag t
+            WHERE s.postCount > 0
+            ORDER BY s.postCount DESC, t.name ASC
+            """)
+    List<TagCountRow> findPopular(Pageable pageable);
+
+    interface TagCountRow {
+        Long getId();
+
+        String getName();
+
+        String getSlug();
+
+        long getPostCount();
+    }
+}
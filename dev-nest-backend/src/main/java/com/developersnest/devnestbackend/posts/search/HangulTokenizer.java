@@ -0,0 +1,64 @@
+package com.developersnest.devnestbackend.posts.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits text into index terms: character bigrams for runs of Hangul syllables (a lone syllable is kept
+ * as a unigram) and lower-cased word tokens for Latin letters and digits.
+ */
+public final class HangulTokenizer {
+
+    private static final char HANGUL_SYLLABLE_START = '가';
+    private static final char HANGUL_SYLLABLE_END = '힣';
+
+    private HangulTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        int length = normalized.length();
+        int index = 0;
+        while (index < length) {
+            char current = normalized.charAt(index);
+            if (isHangul(current)) {
+                int end = index;
+                while (end < length && isHangul(normalized.charAt(end))) {
+                    end++;
+                }
+                addHangulBigrams(normalized, index, end, tokens);
+                index = end;
+            } else if (Character.isLetterOrDigit(current)) {
+                int end = index;
+                while (end < length && Character.isLetterOrDigit(normalized.charAt(end)) && !isHangul(normalized.charAt(end))) {
+                    end++;
+                }
+                tokens.add(normalized.substring(index, end));
+                index = end;
+            } else {
+                index++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addHangulBigrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangul(char value) {
+        return value >= HANGUL_SYLLABLE_START && value <= HANGUL_SYLLABLE_END;
+    }
+}
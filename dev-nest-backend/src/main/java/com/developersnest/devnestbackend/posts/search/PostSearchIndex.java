@@ -0,0 +1,249 @@
+package com.developersnest.devnestbackend.posts.search;
+
+import com.developersnest.devnestbackend.posts.dto.PostDetailResponse;
+import com.developersnest.devnestbackend.posts.event.PostChangedEvent;
+import com.developersnest.devnestbackend.posts.repository.PostRepository;
+import com.developersnest.devnestbackend.posts.repository.PostRepository.PostSearchRow;
+import com.developersnest.devnestbackend.posts.repository.PostRepository.PostTagRow;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory inverted index over post title, tags, summary and markdown body with BM25 ranking.
+ * Built from the database in id-ordered chunks at startup and kept current from post write events. Only
+ * published posts are indexed.
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 3;
+    private static final int SUMMARY_WEIGHT = 2;
+    private static final int BODY_WEIGHT = 1;
+    private static final int REBUILD_CHUNK_SIZE = 200;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private final Set<Long> removedDuringRebuild = new HashSet<>();
+    private final PostRepository postRepository;
+    private long totalLength;
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    public PostSearchIndex(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns ids of matching posts, best match first.
+     */
+    public List<Long> search(String query) {
+        List<String> terms = HangulTokenizer.tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                posting.forEach((postId, frequency) -> {
+                    double lengthRatio = documentLengths.get(postId) / averageLength;
+                    double saturated = frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * lengthRatio));
+                    scores.merge(postId, idf * saturated, Double::sum);
+                });
+            }
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void index(Long postId, String title, String summary, List<String> tags, String body) {
+        Map<String, Integer> terms = analyze(title, summary, tags, body);
+        lock.writeLock().lock();
+        try {
+            put(postId, terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+            if (rebuilding) {
+                removedDuringRebuild.add(postId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            remove(event.postId());
+            return;
+        }
+        PostDetailResponse post = event.post();
+        if (post == null) {
+            return;
+        }
+        // Drafts stay out of the index, so they neither match nor count towards document statistics.
+        if (post.publishedAt() == null) {
+            remove(post.id());
+        } else {
+            index(post.id(), post.title(), post.summary(), post.tags(), post.content());
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        setRebuilding(true);
+        try {
+            long afterId = 0L;
+            int indexed = 0;
+            while (true) {
+                List<PostSearchRow> rows = postRepository.findSearchDocuments(afterId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                List<Long> postIds = rows.stream().map(PostSearchRow::getId).toList();
+                Map<Long, List<String>> tagsByPost = postRepository.findTagNames(postIds).stream()
+                        .collect(Collectors.groupingBy(
+                                PostTagRow::getPostId,
+                                Collectors.mapping(PostTagRow::getName, Collectors.toList())
+                        ));
+                for (PostSearchRow row : rows) {
+                    Map<String, Integer> terms = analyze(
+                            row.getTitle(),
+                            row.getSummary(),
+                            tagsByPost.getOrDefault(row.getId(), List.of()),
+                            row.getContent()
+                    );
+                    if (putIfAbsent(row.getId(), terms)) {
+                        indexed++;
+                    }
+                }
+                afterId = postIds.get(postIds.size() - 1);
+                if (rows.size() < REBUILD_CHUNK_SIZE) {
+                    break;
+                }
+            }
+            ready = true;
+            log.info("Post search index built with {} posts", indexed);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to build post search index, keyword search falls back to the database", ex);
+        } finally {
+            setRebuilding(false);
+        }
+    }
+
+    private boolean putIfAbsent(Long postId, Map<String, Integer> terms) {
+        lock.writeLock().lock();
+        try {
+            if (documents.containsKey(postId) || removedDuringRebuild.contains(postId)) {
+                return false;
+            }
+            put(postId, terms);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void setRebuilding(boolean value) {
+        lock.writeLock().lock();
+        try {
+            rebuilding = value;
+            removedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(Long postId, Map<String, Integer> terms) {
+        removeInternal(postId);
+        int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+        documents.put(postId, terms);
+        documentLengths.put(postId, length);
+        totalLength += length;
+        terms.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(postId, frequency));
+    }
+
+    private void removeInternal(Long postId) {
+        Map<String, Integer> terms = documents.remove(postId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(postId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        Integer length = documentLengths.remove(postId);
+        if (length != null) {
+            totalLength -= length;
+        }
+    }
+
+    private static Map<String, Integer> analyze(String title, String summary, List<String> tags, String body) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, title, TITLE_WEIGHT);
+        addTerms(terms, summary, SUMMARY_WEIGHT);
+        if (tags != null) {
+            tags.forEach(tag -> addTerms(terms, tag, TAG_WEIGHT));
+        }
+        addTerms(terms, body, BODY_WEIGHT);
+        return terms;
+    }
+
+    private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String token : HangulTokenizer.tokenize(text)) {
+            terms.merge(token, weight, Integer::sum);
+        }
+    }
+}
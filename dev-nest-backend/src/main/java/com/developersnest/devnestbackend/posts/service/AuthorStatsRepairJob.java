@@ -0,0 +1,54 @@
+package com.developersnest.devnestbackend.posts.service;
+
+import com.developersnest.devnestbackend.posts.repository.AuthorStatsRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Recomputes {@code author_stats} from posts, metrics and comments, one chunk of authors per transaction.
+ * Incremental updates can drift, so this runs on a schedule and rewrites the counters, each chunk in one
+ * statement that reads the totals as it writes them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthorStatsRepairJob {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final AuthorStatsRepository authorStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${devnest.posts.author-stats-repair-cron:0 30 4 * * *}")
+    public void repair() {
+        long afterId = 0L;
+        int repaired = 0;
+        try {
+            while (true) {
+                List<Long> authorIds = authorStatsRepository.findAuthorIdsAfter(afterId, PageRequest.of(0, CHUNK_SIZE));
+                if (authorIds.isEmpty()) {
+                    break;
+                }
+                Integer written = transactionTemplate.execute(status -> repairChunk(authorIds));
+                repaired += written != null ? written : 0;
+                afterId = authorIds.get(authorIds.size() - 1);
+                if (authorIds.size() < CHUNK_SIZE) {
+                    break;
+                }
+            }
+            log.info("Author stats repaired for {} authors", repaired);
+        } catch (RuntimeException ex) {
+            log.warn("Author stats repair stopped after author {}", afterId, ex);
+        }
+    }
+
+    private int repairChunk(List<Long> authorIds) {
+        authorStatsRepository.insertMissing(authorIds);
+        return authorStatsRepository.recompute(authorIds);
+    }
+}
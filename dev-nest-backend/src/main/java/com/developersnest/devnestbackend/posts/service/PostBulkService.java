@@ -0,0 +1,441 @@
+package com.developersnest.devnestbackend.posts.service;
+
+import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.common.markdown.MarkdownRenderer;
+import com.developersnest.devnestbackend.posts.dto.PostBulkRecord;
+import com.developersnest.devnestbackend.posts.dto.PostDetailResponse;
+import com.developersnest.devnestbackend.posts.dto.PostImportResult;
+import com.developersnest.devnestbackend.posts.entity.AuthorStatsEntity;
+import com.developersnest.devnestbackend.posts.event.PostChangedEvent;
+import com.developersnest.devnestbackend.posts.repository.AuthorStatsRepository;
+import com.developersnest.devnestbackend.posts.repository.TagRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * NDJSON bulk import and export of posts. Import reads one line at a time and writes posts, contents,
+ * metrics and tag links with JDBC batches, committing every {@value #CHUNK_SIZE} posts. Export walks a
+ * forward-only cursor over the posts and writes each line as soon as its tags are known.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostBulkService {
+
+    private static final int CHUNK_SIZE = 200;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_TITLE_LENGTH = 200;
+    private static final int MAX_SLUG_LENGTH = 220;
+    // Must match the allocationSize of PostEntity's posts_seq generator: each sequence value opens a block of ids.
+    private static final int POST_ID_BLOCK_SIZE = 50;
+
+    private static final String INSERT_POST = """
+            INSERT INTO posts (post_id, author_id, title, slug, summary, hero_image_url, is_pinned, published_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_CONTENT = "INSERT INTO post_contents (post_id, content_markdown, content_html, content_hash) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_METRICS = "INSERT INTO post_metrics (post_id, views_count, likes_count, comments_count) VALUES (?, ?, ?, 0)";
+    private static final String INSERT_POST_TAG = "INSERT INTO post_tags (post_id, tag_id) VALUES (?, ?)";
+    private static final String ADJUST_TAG_COUNT = "UPDATE tag_stats SET post_count = post_count + ? WHERE tag_id = ?";
+    private static final String EXPORT_POSTS = """
+            SELECT p.post_id, p.slug, p.title, p.summary, p.hero_image_url, p.is_pinned,
+                   p.published_at, p.created_at, p.updated_at, u.username,
+                   c.content_markdown, m.views_count, m.likes_count
+            FROM posts p
+            JOIN users u ON u.user_id = p.author_id
+            LEFT JOIN post_contents c ON c.post_id = p.post_id
+            LEFT JOIN post_metrics m ON m.post_id = p.post_id
+            ORDER BY p.post_id
+            """;
+    private static final String EXPORT_TAGS = """
+            SELECT pt.post_id, t.name
+            FROM post_tags pt
+            JOIN tags t ON t.tag_id = pt.tag_id
+            WHERE pt.post_id IN (:postIds)
+            ORDER BY pt.post_id, t.name
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final UserRepository userRepository;
+    private final TagDictionary tagDictionary;
+    private final TagRepository tagRepository;
+    private final AuthorStatsRepository authorStatsRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Imports posts from NDJSON. Lines that cannot be imported (bad JSON, unknown author, taken slug) are
+     * skipped and reported; a chunk that fails to commit is reported as a whole and the import continues.
+     */
+    public PostImportResult importPosts(InputStream input) throws IOException {
+        ImportProgress progress = new ImportProgress();
+        Map<String, Optional<PostDetailResponse.Author>> authors = new HashMap<>();
+        List<ImportLine> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                PostBulkRecord record;
+                try {
+                    record = objectMapper.readValue(line, PostBulkRecord.class);
+                } catch (JsonProcessingException ex) {
+                    progress.skip(lineNumber, "JSON 형식이 올바르지 않습니다.");
+                    continue;
+                }
+                String problem = validate(record);
+                if (problem != null) {
+                    progress.skip(lineNumber, problem);
+                    continue;
+                }
+                chunk.add(new ImportLine(lineNumber, record, resolveSlug(record)));
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, authors, progress);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, authors, progress);
+        }
+        log.info("Post import finished: {} imported, {} skipped", progress.imported, progress.skipped);
+        return progress.toResult();
+    }
+
+    /**
+     * Streams every post as NDJSON in id order.
+     */
+    public void exportPosts(OutputStream output) throws IOException {
+        List<PostBulkRecordRow> buffer = new ArrayList<>(CHUNK_SIZE);
+        try {
+            jdbcTemplate.getJdbcTemplate().query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        EXPORT_POSTS,
+                        ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY
+                );
+                statement.setFetchSize(CHUNK_SIZE);
+                return statement;
+            }, (RowCallbackHandler) resultSet -> {
+                buffer.add(readExportRow(resultSet));
+                if (buffer.size() == CHUNK_SIZE) {
+                    writeExportChunk(buffer, output);
+                    buffer.clear();
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writeExportChunk(buffer, output);
+        output.flush();
+    }
+
+    private void importChunk(
+            List<ImportLine> lines,
+            Map<String, Optional<PostDetailResponse.Author>> authors,
+            ImportProgress progress
+    ) {
+        Map<Integer, String> rejected = new LinkedHashMap<>();
+        try {
+            Integer imported = transactionTemplate.execute(status -> insertChunk(lines, authors, rejected));
+            progress.imported += imported != null ? imported : 0;
+            rejected.forEach(progress::skip);
+        } catch (DataAccessException ex) {
+            log.warn("Failed to import posts from lines {}-{}", lines.get(0).number(), lines.get(lines.size() - 1).number(), ex);
+            lines.forEach(line -> progress.skip(line.number(), "저장 중 오류가 발생했습니다."));
+        }
+    }
+
+    private int insertChunk(
+            List<ImportLine> lines,
+            Map<String, Optional<PostDetailResponse.Author>> authors,
+            Map<Integer, String> rejected
+    ) {
+        Set<String> slugs = new LinkedHashSet<>();
+        lines.forEach(line -> slugs.add(line.slug()));
+        Set<String> takenSlugs = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT slug FROM posts WHERE slug IN (:slugs)",
+                Map.of("slugs", slugs),
+                String.class
+        ));
+
+        List<ImportLine> accepted = new ArrayList<>(lines.size());
+        for (ImportLine line : lines) {
+            Optional<PostDetailResponse.Author> author = authors.computeIfAbsent(line.record().author().trim(), username ->
+                    userRepository.findByUsername(username)
+                            .map(user -> new PostDetailResponse.Author(user.getId(), user.getUsername(), user.getDisplayName())));
+            if (author.isEmpty()) {
+                rejected.put(line.number(), "작성자를 찾을 수 없습니다.");
+            } else if (!takenSlugs.add(line.slug())) {
+                rejected.put(line.number(), "이미 사용 중인 슬러그입니다.");
+            } else {
+                accepted.add(line);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return 0;
+        }
+
+        List<String> rawTags = new ArrayList<>();
+        accepted.forEach(line -> {
+            if (line.record().tags() != null) {
+                rawTags.addAll(line.record().tags());
+            }
+        });
+        Map<String, TagDictionary.Entry> tagsBySlug = new HashMap<>();
+        tagDictionary.resolve(rawTags).forEach(entry -> tagsBySlug.put(entry.slug(), entry));
+        // Tag stats rows for new tags are pending in the persistence context; the JDBC updates below need them.
+        tagRepository.flush();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> postIds = allocatePostIds(accepted.size());
+        List<Object[]> postRows = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            ImportLine line = accepted.get(i);
+            PostBulkRecord record = line.record();
+            LocalDateTime createdAt = record.createdAt() != null ? record.createdAt() : now;
+            postRows.add(new Object[]{
+                    postIds.get(i),
+                    authors.get(record.author().trim()).orElseThrow().id(),
+                    record.title().trim(),
+                    line.slug(),
+                    record.summary(),
+                    record.heroImageUrl(),
+                    record.pinned(),
+                    // A missing publishedAt is a draft, as exported; it must stay unpublished.
+                    record.publishedAt(),
+                    createdAt,
+                    record.updatedAt() != null ? record.updatedAt() : createdAt
+            });
+        }
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_POST, postRows);
+
+        List<Object[]> contentRows = new ArrayList<>(accepted.size());
+        List<Object[]> metricsRows = new ArrayList<>(accepted.size());
+        List<Object[]> postTagRows = new ArrayList<>();
+        Map<Long, Integer> tagDeltas = new LinkedHashMap<>();
+        Map<Long, long[]> authorDeltas = new LinkedHashMap<>();
+        List<PostChangedEvent> events = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            ImportLine line = accepted.get(i);
+            PostBulkRecord record = line.record();
+            Long postId = postIds.get(i);
+            String html = markdownRenderer.render(record.content());
+            contentRows.add(new Object[]{postId, record.content(), html, ContentHash.of(record.content())});
+            long views = Math.max(record.views(), 0);
+            long likes = Math.max(record.likes(), 0);
+            metricsRows.add(new Object[]{postId, views, likes});
+
+            Map<Long, String> postTags = new LinkedHashMap<>();
+            if (record.tags() != null) {
+                for (String rawTag : record.tags()) {
+                    TagDictionary.Entry tag = StringUtils.hasText(rawTag) ? tagsBySlug.get(tagDictionary.slugFor(rawTag.trim())) : null;
+                    if (tag != null && postTags.putIfAbsent(tag.id(), tag.name()) == null) {
+                        postTagRows.add(new Object[]{postId, tag.id()});
+                        tagDeltas.merge(tag.id(), 1, Integer::sum);
+                    }
+                }
+            }
+
+            PostDetailResponse.Author author = authors.get(record.author().trim()).orElseThrow();
+            long[] delta = authorDeltas.computeIfAbsent(author.id(), id -> new long[3]);
+            delta[0]++;
+            delta[1] += views;
+            delta[2] += likes;
+
+            Object[] postRow = postRows.get(i);
+            PostDetailResponse detail = new PostDetailResponse(
+                    postId,
+                    record.title().trim(),
+                    line.slug(),
+                    record.summary(),
+                    record.content(),
+                    html,
+                    List.copyOf(postTags.values()),
+                    record.heroImageUrl(),
+                    author,
+                    views,
+                    likes,
+                    0L,
+                    null,
+                    (LocalDateTime) postRow[7],
+                    (LocalDateTime) postRow[9]
+            );
+            events.add(new PostChangedEvent(postId, line.slug(), PostChangedEvent.Type.CREATED, detail));
+        }
+
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_CONTENT, contentRows);
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_METRICS, metricsRows);
+        if (!postTagRows.isEmpty()) {
+            jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_POST_TAG, postTagRows);
+            jdbcTemplate.getJdbcTemplate().batchUpdate(ADJUST_TAG_COUNT, tagDeltas.entrySet().stream()
+                    .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                    .toList());
+        }
+        authorDeltas.forEach((authorId, delta) -> {
+            if (authorStatsRepository.adjust(authorId, delta[0], delta[1], delta[2], 0) == 0) {
+                AuthorStatsEntity stats = new AuthorStatsEntity();
+                stats.setId(authorId);
+                stats.setPostsCount(delta[0]);
+                stats.setViewsCount(delta[1]);
+                stats.setLikesCount(delta[2]);
+                authorStatsRepository.save(stats);
+            }
+        });
+        events.forEach(eventPublisher::publishEvent);
+        return accepted.size();
+    }
+
+    /**
+     * Reserves ids from {@code posts_seq} using the same pooled-lo blocks as Hibernate, one sequence call per block.
+     */
+    private List<Long> allocatePostIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            Long low = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT NEXT VALUE FOR posts_seq", Long.class);
+            for (int offset = 0; offset < POST_ID_BLOCK_SIZE && ids.size() < count; offset++) {
+                ids.add(low + offset);
+            }
+        }
+        return ids;
+    }
+
+    private void writeExportChunk(List<PostBulkRecordRow> rows, OutputStream output) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Map<Long, List<String>> tagsByPost = new HashMap<>();
+        jdbcTemplate.query(
+                EXPORT_TAGS,
+                Map.of("postIds", rows.stream().map(PostBulkRecordRow::postId).toList()),
+                (RowCallbackHandler) resultSet -> tagsByPost
+                        .computeIfAbsent(resultSet.getLong("post_id"), id -> new ArrayList<>())
+                        .add(resultSet.getString("name"))
+        );
+        try {
+            for (PostBulkRecordRow row : rows) {
+                PostBulkRecord record = row.record();
+                PostBulkRecord withTags = new PostBulkRecord(
+                        record.slug(),
+                        record.title(),
+                        record.summary(),
+                        record.heroImageUrl(),
+                        record.pinned(),
+                        record.author(),
+                        record.content(),
+                        tagsByPost.getOrDefault(row.postId(), List.of()),
+                        record.views(),
+                        record.likes(),
+                        record.publishedAt(),
+                        record.createdAt(),
+                        record.updatedAt()
+                );
+                output.write(objectMapper.writeValueAsBytes(withTags));
+                output.write('\n');
+            }
+            output.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static PostBulkRecordRow readExportRow(ResultSet resultSet) throws SQLException {
+        PostBulkRecord record = new PostBulkRecord(
+                resultSet.getString("slug"),
+                resultSet.getString("title"),
+                resultSet.getString("summary"),
+                resultSet.getString("hero_image_url"),
+                resultSet.getBoolean("is_pinned"),
+                resultSet.getString("username"),
+                resultSet.getString("content_markdown"),
+                null,
+                resultSet.getLong("views_count"),
+                resultSet.getLong("likes_count"),
+                resultSet.getObject("published_at", LocalDateTime.class),
+                resultSet.getObject("created_at", LocalDateTime.class),
+                resultSet.getObject("updated_at", LocalDateTime.class)
+        );
+        return new PostBulkRecordRow(resultSet.getLong("post_id"), record);
+    }
+
+    private static String validate(PostBulkRecord record) {
+        if (!StringUtils.hasText(record.title())) {
+            return "제목이 비어 있습니다.";
+        }
+        if (record.title().trim().length() > MAX_TITLE_LENGTH) {
+            return "제목이 너무 깁니다.";
+        }
+        if (!StringUtils.hasText(record.author())) {
+            return "작성자가 비어 있습니다.";
+        }
+        if (record.content() == null) {
+            return "본문이 비어 있습니다.";
+        }
+        String slug = resolveSlug(record);
+        if (slug.isBlank() || slug.length() > MAX_SLUG_LENGTH) {
+            return "슬러그가 올바르지 않습니다.";
+        }
+        return null;
+    }
+
+    private static String resolveSlug(PostBulkRecord record) {
+        return StringUtils.hasText(record.slug()) ? record.slug().trim() : SlugNormalizer.toSlug(record.title().trim());
+    }
+
+    private record ImportLine(int number, PostBulkRecord record, String slug) {
+    }
+
+    private record PostBulkRecordRow(Long postId, PostBulkRecord record) {
+    }
+
+    private static final class ImportProgress {
+        private long imported;
+        private long skipped;
+        private final List<String> errors = new ArrayList<>();
+
+        void skip(int lineNumber, String reason) {
+            skipped++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(lineNumber + "번째 줄: " + reason);
+            }
+        }
+
+        PostImportResult toResult() {
+            return new PostImportResult(imported, skipped, List.copyOf(errors));
+        }
+    }
+}
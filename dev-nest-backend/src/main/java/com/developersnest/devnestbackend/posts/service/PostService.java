@@ -2,33 +2,52 @@ package com.developersnest.devnestbackend.posts.service;
 
 import com.developersnest.devnestbackend.auth.entity.UserEntity;
 import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.common.markdown.MarkdownRenderer;
+import com.developersnest.devnestbackend.common.persistence.DuplicateKeys;
+import com.developersnest.devnestbackend.posts.cache.PostDetailCache;
 import com.developersnest.devnestbackend.posts.dto.PostDetailResponse;
+import com.developersnest.devnestbackend.posts.dto.PostEngagementItem;
 import com.developersnest.devnestbackend.posts.dto.PostEngagementResponse;
 import com.developersnest.devnestbackend.posts.dto.PostListResponse;
 import com.developersnest.devnestbackend.posts.dto.PostSummaryResponse;
 import com.developersnest.devnestbackend.posts.dto.PostWriteRequest;
+import com.developersnest.devnestbackend.posts.entity.AuthorStatsEntity;
+import com.developersnest.devnestbackend.posts.entity.PostContentEntity;
 import com.developersnest.devnestbackend.posts.entity.PostEntity;
-import com.developersnest.devnestbackend.posts.entity.PostLikeEntity;
 import com.developersnest.devnestbackend.posts.entity.PostLikeId;
 import com.developersnest.devnestbackend.posts.entity.PostMetricsEntity;
 import com.developersnest.devnestbackend.posts.entity.TagEntity;
+import com.developersnest.devnestbackend.posts.entity.TagStatsEntity;
+import com.developersnest.devnestbackend.posts.event.PostChangedEvent;
+import com.developersnest.devnestbackend.posts.event.PostLikedEvent;
+import com.developersnest.devnestbackend.posts.event.PostViewedEvent;
 import com.developersnest.devnestbackend.posts.mapper.PostMapper;
+import com.developersnest.devnestbackend.posts.repository.AuthorStatsRepository;
+import com.developersnest.devnestbackend.posts.repository.PostContentRepository;
 import com.developersnest.devnestbackend.posts.repository.PostLikeRepository;
 import com.developersnest.devnestbackend.posts.repository.PostMetricsRepository;
 import com.developersnest.devnestbackend.posts.repository.PostRepository;
+import com.developersnest.devnestbackend.posts.repository.PostRepository.PostSummaryRow;
+import com.developersnest.devnestbackend.posts.repository.PostRepository.PostTagRow;
 import com.developersnest.devnestbackend.posts.repository.TagRepository;
-import java.text.Normalizer;
-import java.util.regex.Pattern;
-import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
+import com.developersnest.devnestbackend.posts.repository.TagStatsRepository;
+import com.developersnest.devnestbackend.posts.search.PostSearchIndex;
+import com.developersnest.devnestbackend.posts.trending.TrendingEngine;
+import com.developersnest.devnestbackend.posts.trending.TrendingWindow;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -36,62 +55,146 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 
+@Slf4j
 @Service
 public class PostService {
 
     private static final int MAX_PAGE_SIZE = 50;
     private static final int DEFAULT_PAGE_SIZE = 10;
 
-    private static final Pattern NON_SLUG_PATTERN = Pattern.compile("[^\\p{IsAlphabetic}\\p{IsDigit}]+");
-    private static final Pattern CONSECUTIVE_HYPHENS = Pattern.compile("-+");
+    private static final int CREATE_ATTEMPTS = 3;
+    private static final int MAX_LATEST_SIZE = 50;
+    private static final int MAX_ENGAGEMENT_BATCH = 100;
+    private static final int MAX_TRENDING_SCAN = 400;
+    // Leaves room for a numeric suffix within the 220 character slug column.
+    private static final int MAX_BASE_SLUG_LENGTH = 208;
 
     private final PostRepository postRepository;
+    private final PostContentRepository postContentRepository;
     private final TagRepository tagRepository;
     private final PostLikeRepository postLikeRepository;
     private final PostMetricsRepository postMetricsRepository;
+    private final AuthorStatsRepository authorStatsRepository;
     private final UserRepository userRepository;
     private final PostMapper postMapper;
+    private final PostViewCounter postViewCounter;
+    private final PostDetailCache postDetailCache;
+    private final PostSearchIndex postSearchIndex;
+    private final TrendingEngine trendingEngine;
+    private final TagDictionary tagDictionary;
+    private final TagStatsRepository tagStatsRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PostService(
             PostRepository postRepository,
+            PostContentRepository postContentRepository,
             TagRepository tagRepository,
             PostLikeRepository postLikeRepository,
             PostMetricsRepository postMetricsRepository,
+            AuthorStatsRepository authorStatsRepository,
             UserRepository userRepository,
-            PostMapper postMapper
+            PostMapper postMapper,
+            PostViewCounter postViewCounter,
+            PostDetailCache postDetailCache,
+            PostSearchIndex postSearchIndex,
+            TrendingEngine trendingEngine,
+            TagDictionary tagDictionary,
+            TagStatsRepository tagStatsRepository,
+            MarkdownRenderer markdownRenderer,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.postRepository = postRepository;
+        this.postContentRepository = postContentRepository;
         this.tagRepository = tagRepository;
         this.postLikeRepository = postLikeRepository;
         this.postMetricsRepository = postMetricsRepository;
+        this.authorStatsRepository = authorStatsRepository;
         this.userRepository = userRepository;
         this.postMapper = postMapper;
+        this.postViewCounter = postViewCounter;
+        this.postDetailCache = postDetailCache;
+        this.postSearchIndex = postSearchIndex;
+        this.trendingEngine = trendingEngine;
+        this.tagDictionary = tagDictionary;
+        this.tagStatsRepository = tagStatsRepository;
+        this.markdownRenderer = markdownRenderer;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public PostDetailResponse getPostDetail(String slug) {
-        PostEntity post = postRepository.findBySlug(slug)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "포스트를 찾을 수 없습니다."));
-        PostMetricsEntity metrics = ensureMetrics(post);
-        metrics.incrementViews();
-        return postMapper.toDetail(post);
+        PostDetailResponse detail = findPostDetail(slug);
+        recordView(detail.id());
+        return detail;
     }
 
-    @Transactional
+    /**
+     * Current detail with live engagement and comment counts, without counting a view. Lets the controller answer a
+     * conditional GET before a view is recorded.
+     */
+    @Transactional(readOnly = true)
+    public PostDetailResponse findPostDetail(String slug) {
+        PostDetailResponse detail = postDetailCache.get(slug, key -> postRepository.findBySlug(key)
+                .map(post -> postMapper.toDetail(post, postContentRepository.findById(post.getId()).orElse(null)))
+                .orElse(null));
+        if (detail == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "포스트를 찾을 수 없습니다.");
+        }
+        return postMetricsRepository.findSnapshot(detail.id())
+                .map(snapshot -> detail.withEngagement(
+                        postViewCounter.currentViews(detail.id(), snapshot.getViewsCount()),
+                        snapshot.getLikesCount()
+                ).withComments(snapshot.getCommentsCount(), snapshot.getLastCommentAt()))
+                .orElseGet(() -> detail.withEngagement(postViewCounter.currentViews(detail.id(), 0L), 0L));
+    }
+
+    public void recordView(Long postId) {
+        eventPublisher.publishEvent(new PostViewedEvent(postId));
+    }
+
+    /**
+     * Runs in its own transaction so a concurrent create that takes the same slug first can be retried
+     * with a freshly allocated suffix. The same retry covers two first posts of one author racing to insert
+     * the author's stats row, and two posts racing to create the same new tag; the retry finds the row.
+     */
     public PostDetailResponse createPost(Long authorId, PostWriteRequest request) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> insertPost(authorId, request));
+            } catch (DataIntegrityViolationException ex) {
+                if (attempt >= CREATE_ATTEMPTS || !isRetryableCreateConflict(ex)) {
+                    throw ex;
+                }
+                log.debug("Create raced a concurrent post, retrying (attempt {})", attempt);
+            }
+        }
+    }
+
+    private PostDetailResponse insertPost(Long authorId, PostWriteRequest request) {
         UserEntity author = userRepository.findById(authorId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "사용자를 찾을 수 없습니다."));
 
         PostEntity post = new PostEntity();
         post.setAuthor(author);
-        applyWriteRequest(post, request, true);
+        List<String> tagNames = applyWriteRequest(post, request, true);
 
         PostEntity saved = postRepository.save(post);
         ensureMetrics(saved);
-        return postMapper.toDetail(saved);
+        if (authorStatsRepository.adjust(authorId, 1, 0, 0, 0) == 0) {
+            createAuthorStats(authorId);
+        }
+        PostContentEntity content = applyContent(saved, request.content());
+        PostDetailResponse detail = postMapper.toDetail(saved, content, tagNames);
+        eventPublisher.publishEvent(new PostChangedEvent(saved.getId(), saved.getSlug(), PostChangedEvent.Type.CREATED, detail));
+        return detail;
     }
 
     @Transactional
@@ -102,9 +205,14 @@ public class PostService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "포스트 수정 권한이 없습니다.");
         }
 
-        applyWriteRequest(post, request, false);
+        String previousSlug = post.getSlug();
+        List<String> tagNames = applyWriteRequest(post, request, false);
         PostEntity saved = postRepository.save(post);
-        return postMapper.toDetail(saved);
+        PostContentEntity content = applyContent(saved, request.content());
+        String cachedSlug = StringUtils.hasText(previousSlug) ? previousSlug : saved.getSlug();
+        PostDetailResponse detail = postMapper.toDetail(saved, content, tagNames);
+        eventPublisher.publishEvent(new PostChangedEvent(saved.getId(), cachedSlug, PostChangedEvent.Type.UPDATED, detail));
+        return detail;
     }
 
     @Transactional
@@ -114,41 +222,64 @@ public class PostService {
         if (!Objects.equals(post.getAuthor().getId(), authorId)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "포스트 삭제 권한이 없습니다.");
         }
+        adjustTagCounts(post.getTags().stream().map(TagEntity::getId).toList(), -1);
+        // Read the counts under the row lock: a concurrent view flush has then either landed in both the
+        // metrics row and author_stats, or will find the post gone and write neither.
+        postMetricsRepository.lockRow(postId);
+        Optional<PostMetricsRepository.MetricsSnapshot> metrics = postMetricsRepository.findSnapshot(postId);
+        authorStatsRepository.adjust(
+                authorId,
+                -1,
+                -metrics.map(PostMetricsRepository.MetricsSnapshot::getViewsCount).orElse(0L),
+                -metrics.map(PostMetricsRepository.MetricsSnapshot::getLikesCount).orElse(0L),
+                -postRepository.countLiveComments(postId)
+        );
+        postContentRepository.deleteById(postId);
         postRepository.delete(post);
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId(), post.getSlug(), PostChangedEvent.Type.DELETED, null));
     }
 
-    @Transactional
+    /**
+     * Inserts the like only if absent and bumps {@code likes_count} in the database only when the insert
+     * happened, without loading the post or user.
+     */
     public PostEngagementResponse likePost(Long postId, Long userId) {
-        PostEntity post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "포스트를 찾을 수 없습니다."));
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "사용자를 찾을 수 없습니다."));
-
-        PostMetricsEntity metrics = ensureMetrics(post);
-        PostLikeId id = new PostLikeId(postId, userId);
-        if (!postLikeRepository.existsById(id)) {
-            PostLikeEntity like = new PostLikeEntity();
-            like.setId(id);
-            like.setPost(post);
-            like.setUser(user);
-            postLikeRepository.save(like);
-            metrics.incrementLikes();
+        LocalDateTime likedAt = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (postLikeRepository.insertIfAbsent(postId, userId, likedAt) == 0) {
+                    return;
+                }
+                if (postMetricsRepository.incrementLikes(postId, likedAt) == 0) {
+                    createMetrics(postId, 1, likedAt);
+                }
+                authorStatsRepository.adjustForPost(postId, 0, 1, 0);
+                eventPublisher.publishEvent(new PostLikedEvent(postId, 1));
+            });
+        } catch (DataIntegrityViolationException ex) {
+            // Only a concurrent like from the same user inserting first means the like is in place.
+            if (!DuplicateKeys.isDuplicateKey(ex, "POST_LIKES")) {
+                if (!postRepository.existsById(postId)) {
+                    throw new ResponseStatusException(HttpStatus.NOT_FOUND, "포스트를 찾을 수 없습니다.");
+                }
+                throw ex;
+            }
         }
-
-        return new PostEngagementResponse(metrics.getViewsCount(), metrics.getLikesCount(), true);
+        return engagementAfterToggle(postId, true);
     }
 
-    @Transactional
     public PostEngagementResponse unlikePost(Long postId, Long userId) {
-        PostEntity post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "포스트를 찾을 수 없습니다."));
-        PostMetricsEntity metrics = ensureMetrics(post);
-        PostLikeId id = new PostLikeId(postId, userId);
-        postLikeRepository.findById(id).ifPresent(like -> {
-            postLikeRepository.delete(like);
-            metrics.decrementLikes();
+        LocalDateTime unlikedAt = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (postLikeRepository.deleteLike(postId, userId) == 0) {
+                return;
+            }
+            if (postMetricsRepository.decrementLikes(postId, unlikedAt) > 0) {
+                authorStatsRepository.adjustForPost(postId, 0, -1, 0);
+                eventPublisher.publishEvent(new PostLikedEvent(postId, -1));
+            }
         });
-        return new PostEngagementResponse(metrics.getViewsCount(), metrics.getLikesCount(), false);
+        return engagementAfterToggle(postId, false);
     }
 
     @Transactional(readOnly = true)
@@ -156,46 +287,248 @@ public class PostService {
         PostEntity post = postRepository.findById(postId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "포스트를 찾을 수 없습니다."));
         PostMetricsEntity metrics = post.getMetrics();
-        long views = metrics != null ? metrics.getViewsCount() : 0L;
+        long views = currentViews(postId, metrics);
         long likes = metrics != null ? metrics.getLikesCount() : 0L;
         boolean liked = viewerId != null && postLikeRepository.existsById(new PostLikeId(postId, viewerId));
         return new PostEngagementResponse(views, likes, liked);
     }
 
+    /**
+     * Engagement for up to 100 posts using one metrics query and one
+     * {@code post_likes} lookup. Unknown ids are left out of the result.
+     */
+    @Transactional(readOnly = true)
+    public List<PostEngagementItem> getEngagements(List<Long> postIds, Long viewerId) {
+        List<Long> ids = postIds == null ? List.of() : postIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() > MAX_ENGAGEMENT_BATCH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 포스트 수를 초과했습니다.");
+        }
+        Set<Long> liked = viewerId != null ? new HashSet<>(postLikeRepository.findLikedPostIds(viewerId, ids)) : Set.of();
+        return postMetricsRepository.findSnapshots(ids).stream()
+                .map(snapshot -> new PostEngagementItem(
+                        snapshot.getPostId(),
+                        postViewCounter.currentViews(snapshot.getPostId(), snapshot.getViewsCount()),
+                        snapshot.getLikesCount(),
+                        liked.contains(snapshot.getPostId())
+                ))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public PostListResponse withViewerState(PostListResponse response, Long viewerId) {
+        if (viewerId == null || response.items().isEmpty()) {
+            return response.withLikedPostIds(List.of());
+        }
+        List<Long> postIds = response.items().stream().map(PostSummaryResponse::id).toList();
+        return response.withLikedPostIds(postLikeRepository.findLikedPostIds(viewerId, postIds));
+    }
+
     @Transactional(readOnly = true)
     public List<PostSummaryResponse> getLatest(int limit) {
-        int size = Math.min(Math.max(limit, 1), 50);
-        Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "publishedAt", "id"));
-        Page<PostEntity> page = postRepository.findAll(pageable);
-        return postMapper.toSummaryList(page.getContent());
+        return toSummaries(postRepository.searchSummariesFirstPage(null, PageRequest.of(0, latestSize(limit))));
+    }
+
+    /**
+     * The number of posts {@link #getLatest} serves for a requested {@code limit}.
+     */
+    public static int latestSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_LATEST_SIZE);
     }
 
     @Transactional(readOnly = true)
     public PostListResponse getPosts(Integer page, Integer size, String keyword) {
         int pageIndex = page != null && page >= 0 ? page : 0;
-        int pageSize = size != null && size > 0 ? Math.min(size, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
-        Pageable pageable = PageRequest.of(pageIndex, pageSize, Sort.by(Sort.Direction.DESC, "publishedAt", "id"));
-        String normalizedKeyword = StringUtils.hasText(keyword) ? keyword.trim() : null;
-        Page<PostEntity> result = postRepository.search(normalizedKeyword, pageable);
-        List<PostSummaryResponse> items = postMapper.toSummaryList(result.getContent());
-        long totalViews = result.getContent().stream().mapToLong(this::extractViews).sum();
-        long totalLikes = result.getContent().stream().mapToLong(this::extractLikes).sum();
-        return new PostListResponse(items, result.getTotalElements(), result.getTotalPages(), result.getNumber(), result.getSize(), totalViews, totalLikes);
+        int pageSize = resolvePageSize(size);
+        Page<PostSummaryRow> result = postRepository.searchSummaries(normalizeKeyword(keyword), PageRequest.of(pageIndex, pageSize));
+        List<PostSummaryResponse> items = toSummaries(result.getContent());
+        long totalViews = result.getContent().stream().mapToLong(PostSummaryRow::getViews).sum();
+        long totalLikes = result.getContent().stream().mapToLong(PostSummaryRow::getLikes).sum();
+        return new PostListResponse(items, result.getTotalElements(), result.getTotalPages(), result.getNumber(), result.getSize(), totalViews, totalLikes, null);
+    }
+
+    @Transactional(readOnly = true)
+    public PostListResponse searchRanked(Integer page, Integer size, String keyword) {
+        String normalizedKeyword = normalizeKeyword(keyword);
+        if (normalizedKeyword == null || !postSearchIndex.isReady()) {
+            return getPosts(page, size, keyword);
+        }
+        int pageIndex = page != null && page >= 0 ? page : 0;
+        int pageSize = resolvePageSize(size);
+        List<Long> ranked = postSearchIndex.search(normalizedKeyword);
+        int from = (int) Math.min((long) pageIndex * pageSize, ranked.size());
+        int to = Math.min(from + pageSize, ranked.size());
+        List<PostSummaryRow> rows = findSummariesInOrder(ranked.subList(from, to));
+
+        long totalElements = ranked.size();
+        List<PostSummaryResponse> items = toSummaries(rows);
+        long totalViews = rows.stream().mapToLong(PostSummaryRow::getViews).sum();
+        long totalLikes = rows.stream().mapToLong(PostSummaryRow::getLikes).sum();
+        return new PostListResponse(items, totalElements, totalPages(totalElements, pageSize), pageIndex, pageSize, totalViews, totalLikes, null);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PostSummaryResponse> getTrending(String window, Integer limit) {
+        TrendingWindow trendingWindow = TrendingWindow.from(window)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 집계 기간입니다."));
+        int size = limit != null && limit > 0 ? Math.min(limit, 50) : 10;
+        // Unpublished posts collect views and likes too but are left out of the summaries, so read further
+        // down the ranking until the page is full.
+        int scanned = size;
+        while (true) {
+            List<Long> ranked = trendingEngine.top(trendingWindow, scanned);
+            List<PostSummaryRow> rows = findSummariesInOrder(ranked);
+            if (rows.size() >= size || ranked.size() < scanned || scanned >= MAX_TRENDING_SCAN) {
+                return toSummaries(rows.subList(0, Math.min(size, rows.size())));
+            }
+            scanned *= 2;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public PostListResponse getPostsByCursor(String cursor, Integer size, String keyword, boolean withTotal) {
+        int pageSize = resolvePageSize(size);
+        String normalizedKeyword = normalizeKeyword(keyword);
+        PostCursor after = PostCursor.decode(cursor);
+        Pageable window = PageRequest.of(0, pageSize + 1);
+        List<PostSummaryRow> rows = after == null
+                ? postRepository.searchSummariesFirstPage(normalizedKeyword, window)
+                : postRepository.searchSummariesAfter(normalizedKeyword, after.sortKey(), after.postId(), window);
+        boolean hasNext = rows.size() > pageSize;
+        List<PostSummaryRow> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummaryRow last = content.get(content.size() - 1);
+            nextCursor = new PostCursor(last.getPublishedAt(), last.getId()).encode();
+        }
+
+        Long totalElements = withTotal ? postRepository.countSearch(normalizedKeyword) : null;
+        List<PostSummaryResponse> items = toSummaries(content);
+        long totalViews = content.stream().mapToLong(PostSummaryRow::getViews).sum();
+        long totalLikes = content.stream().mapToLong(PostSummaryRow::getLikes).sum();
+        return new PostListResponse(items, totalElements, totalPages(totalElements, pageSize), 0, pageSize, totalViews, totalLikes, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public PostListResponse getPostsByTag(String tag, String cursor, Integer size, boolean withTotal) {
+        int pageSize = resolvePageSize(size);
+        Optional<TagDictionary.Entry> entry = tagDictionary.find(tag);
+        if (entry.isEmpty()) {
+            return new PostListResponse(List.of(), withTotal ? 0L : null, withTotal ? 0 : null, 0, pageSize, 0L, 0L, null);
+        }
+        Long tagId = entry.get().id();
+        PostCursor after = PostCursor.decode(cursor);
+        Pageable window = PageRequest.of(0, pageSize + 1);
+        List<PostSummaryRow> rows = after == null
+                ? postRepository.findSummariesByTagFirstPage(tagId, window)
+                : postRepository.findSummariesByTagAfter(tagId, after.sortKey(), after.postId(), window);
+        boolean hasNext = rows.size() > pageSize;
+        List<PostSummaryRow> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummaryRow last = content.get(content.size() - 1);
+            nextCursor = new PostCursor(last.getPublishedAt(), last.getId()).encode();
+        }
+
+        Long totalElements = withTotal
+                ? tagStatsRepository.findById(tagId).map(TagStatsEntity::getPostCount).orElse(0L)
+                : null;
+        List<PostSummaryResponse> items = toSummaries(content);
+        long totalViews = content.stream().mapToLong(PostSummaryRow::getViews).sum();
+        long totalLikes = content.stream().mapToLong(PostSummaryRow::getLikes).sum();
+        return new PostListResponse(items, totalElements, totalPages(totalElements, pageSize), 0, pageSize, totalViews, totalLikes, nextCursor);
     }
 
     @Transactional(readOnly = true)
     public PostListResponse getPostsByAuthor(Long authorId, Integer page, Integer size) {
         int pageIndex = page != null && page >= 0 ? page : 0;
-        int pageSize = size != null && size > 0 ? Math.min(size, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        int pageSize = resolvePageSize(size);
         Pageable pageable = PageRequest.of(pageIndex, pageSize, Sort.by(Sort.Direction.DESC, "updatedAt", "id"));
         Page<PostEntity> result = postRepository.findByAuthor_Id(authorId, pageable);
         List<PostSummaryResponse> items = postMapper.toSummaryList(result.getContent());
-        long totalViews = postMetricsRepository.sumViewsByAuthor(authorId);
-        long totalLikes = postMetricsRepository.sumLikesByAuthor(authorId);
-        return new PostListResponse(items, result.getTotalElements(), result.getTotalPages(), result.getNumber(), result.getSize(), totalViews, totalLikes);
+        Optional<AuthorStatsEntity> stats = authorStatsRepository.findById(authorId);
+        long totalViews = stats.map(AuthorStatsEntity::getViewsCount).orElse(0L);
+        long totalLikes = stats.map(AuthorStatsEntity::getLikesCount).orElse(0L);
+        return new PostListResponse(items, result.getTotalElements(), result.getTotalPages(), result.getNumber(), result.getSize(), totalViews, totalLikes, null);
+    }
+
+    @Transactional(readOnly = true)
+    public PostListResponse getPostsByAuthorCursor(Long authorId, String cursor, Integer size, boolean withTotal) {
+        int pageSize = resolvePageSize(size);
+        PostCursor after = PostCursor.decode(cursor);
+        Pageable window = PageRequest.of(0, pageSize + 1);
+        List<PostEntity> rows = after == null
+                ? postRepository.findByAuthorFirstPage(authorId, window)
+                : postRepository.findByAuthorAfter(authorId, after.sortKey(), after.postId(), window);
+        boolean hasNext = rows.size() > pageSize;
+        List<PostEntity> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? nextCursor(content, PostEntity::getUpdatedAt) : null;
+
+        Optional<AuthorStatsEntity> stats = authorStatsRepository.findById(authorId);
+        Long totalElements = withTotal ? stats.map(AuthorStatsEntity::getPostsCount).orElse(0L) : null;
+        List<PostSummaryResponse> items = postMapper.toSummaryList(content);
+        long totalViews = stats.map(AuthorStatsEntity::getViewsCount).orElse(0L);
+        long totalLikes = stats.map(AuthorStatsEntity::getLikesCount).orElse(0L);
+        return new PostListResponse(items, totalElements, totalPages(totalElements, pageSize), 0, pageSize, totalViews, totalLikes, nextCursor);
     }
 
-    private void applyWriteRequest(PostEntity post, PostWriteRequest request, boolean isNew) {
+    private List<PostSummaryRow> findSummariesInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostSummaryRow> rowsById = postRepository.findSummariesByIds(postIds).stream()
+                .collect(Collectors.toMap(PostSummaryRow::getId, row -> row));
+        return postIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<PostSummaryResponse> toSummaries(List<PostSummaryRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> postIds = rows.stream().map(PostSummaryRow::getId).toList();
+        Map<Long, List<String>> tagsByPost = postRepository.findTagNames(postIds).stream()
+                .collect(Collectors.groupingBy(
+                        PostTagRow::getPostId,
+                        Collectors.mapping(PostTagRow::getName, Collectors.toList())
+                ));
+        return rows.stream()
+                .map(row -> postMapper.toSummary(row, tagsByPost.getOrDefault(row.getId(), List.of())))
+                .toList();
+    }
+
+    private int resolvePageSize(Integer size) {
+        return size != null && size > 0 ? Math.min(size, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+    }
+
+    private String normalizeKeyword(String keyword) {
+        return StringUtils.hasText(keyword) ? keyword.trim() : null;
+    }
+
+    private String nextCursor(List<PostEntity> content, Function<PostEntity, LocalDateTime> sortKey) {
+        PostEntity last = content.get(content.size() - 1);
+        return new PostCursor(sortKey.apply(last), last.getId()).encode();
+    }
+
+    private Integer totalPages(Long totalElements, int pageSize) {
+        if (totalElements == null) {
+            return null;
+        }
+        return (int) ((totalElements + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * Copies the request onto the post and returns the resolved tag names, so callers can build the
+     * response without initializing the tag references.
+     */
+    private List<String> applyWriteRequest(PostEntity post, PostWriteRequest request, boolean isNew) {
         String title = request.title().trim();
         post.setTitle(title);
         if (isNew || !StringUtils.hasText(post.getSlug())) {
@@ -204,12 +537,22 @@ public class PostService {
         }
 
         post.setSummary(normalizeNullable(request.summary()));
-        post.setContentMarkdown(request.content());
-        post.setContentHtml(request.content());
         post.setHeroImageUrl(normalizeNullable(request.heroImageUrl()));
 
-        post.clearTags();
-        resolveTags(request.tags()).forEach(post::addTag);
+        // Only changed links are touched, so unchanged post_tags rows are neither deleted nor re-inserted.
+        Set<Long> previousTagIds = post.getTags().stream().map(TagEntity::getId).collect(Collectors.toSet());
+        List<TagDictionary.Entry> tags = tagDictionary.resolve(request.tags());
+        Set<Long> tagIds = tags.stream().map(TagDictionary.Entry::id).collect(Collectors.toSet());
+        post.retainTags(tagIds);
+        tags.stream()
+                .filter(tag -> !previousTagIds.contains(tag.id()))
+                .forEach(tag -> post.addTag(tagRepository.getReferenceById(tag.id())));
+        adjustTagCounts(tagIds.stream().filter(id -> !previousTagIds.contains(id)).toList(), 1);
+        adjustTagCounts(previousTagIds.stream().filter(id -> !tagIds.contains(id)).toList(), -1);
+        if (!isNew && !tagIds.equals(previousTagIds)) {
+            // Link changes alone do not make the post row dirty, and updatedAt backs the detail ETag.
+            post.setUpdatedAt(LocalDateTime.now());
+        }
 
         if (isNew || post.getMetrics() == null) {
             PostMetricsEntity metrics = new PostMetricsEntity();
@@ -217,44 +560,37 @@ public class PostService {
             metrics.setLikesCount(0);
             post.setMetrics(metrics);
         }
+        return tags.stream().map(TagDictionary.Entry::name).toList();
     }
 
-    private Set<TagEntity> resolveTags(List<String> tags) {
-        if (tags == null || tags.isEmpty()) {
-            return Collections.emptySet();
-        }
-
-        Map<String, String> slugToDisplayName = new LinkedHashMap<>();
-        for (String rawTag : tags) {
-            if (!StringUtils.hasText(rawTag)) {
-                continue;
-            }
-            String displayName = rawTag.trim();
-            String slug = toSlug(displayName);
-            if (!slug.isBlank()) {
-                slugToDisplayName.putIfAbsent(slug, displayName);
-            }
+    private void adjustTagCounts(Collection<Long> tagIds, long delta) {
+        if (!tagIds.isEmpty()) {
+            tagStatsRepository.adjustPostCount(tagIds, delta);
         }
+    }
 
-        if (slugToDisplayName.isEmpty()) {
-            return Collections.emptySet();
+    /**
+     * Writes the body only when its hash differs from the stored one, so edits that keep the body skip
+     * rendering and leave both NVARCHAR(MAX) columns untouched.
+     */
+    private PostContentEntity applyContent(PostEntity post, String markdown) {
+        String hash = ContentHash.of(markdown);
+        Optional<PostContentEntity> existing = postContentRepository.findById(post.getId());
+        if (existing.isPresent() && hash.equals(existing.get().getContentHash())) {
+            return existing.get();
         }
-
-        List<TagEntity> existing = tagRepository.findBySlugIn(slugToDisplayName.keySet());
-        Map<String, TagEntity> existingMap = existing.stream()
-                .collect(Collectors.toMap(TagEntity::getSlug, tag -> tag));
-
-        Set<TagEntity> resolved = new LinkedHashSet<>();
-        slugToDisplayName.forEach((slug, displayName) -> {
-            TagEntity tag = existingMap.get(slug);
-            if (tag == null) {
-                tag = new TagEntity();
-                tag.setSlug(slug);
-                tag.setName(displayName);
-            }
-            resolved.add(tag);
+        PostContentEntity content = existing.orElseGet(() -> {
+            PostContentEntity created = new PostContentEntity();
+            created.setPost(post);
+            return created;
         });
-        return resolved;
+        content.setContentMarkdown(markdown);
+        content.setContentHtml(markdownRenderer.render(markdown));
+        content.setContentHash(hash);
+        if (existing.isPresent()) {
+            post.setUpdatedAt(LocalDateTime.now());
+        }
+        return postContentRepository.save(content);
     }
 
     private PostMetricsEntity ensureMetrics(PostEntity post) {
@@ -270,43 +606,91 @@ public class PostService {
         return metrics;
     }
 
-    private long extractViews(PostEntity post) {
-        PostMetricsEntity metrics = post.getMetrics();
-        return metrics != null ? metrics.getViewsCount() : 0L;
+    private void createAuthorStats(Long authorId) {
+        AuthorStatsEntity stats = new AuthorStatsEntity();
+        stats.setId(authorId);
+        stats.setPostsCount(1);
+        authorStatsRepository.save(stats);
     }
 
-    private long extractLikes(PostEntity post) {
-        PostMetricsEntity metrics = post.getMetrics();
-        return metrics != null ? metrics.getLikesCount() : 0L;
+    private void createMetrics(Long postId, long likes, LocalDateTime likedAt) {
+        PostMetricsEntity metrics = new PostMetricsEntity();
+        metrics.setPost(postRepository.getReferenceById(postId));
+        metrics.setViewsCount(0);
+        metrics.setLikesCount(likes);
+        metrics.setLastLikeAt(likedAt);
+        postMetricsRepository.save(metrics);
+    }
+
+    private PostEngagementResponse engagementAfterToggle(Long postId, boolean liked) {
+        Optional<PostMetricsRepository.MetricsSnapshot> snapshot = postMetricsRepository.findSnapshot(postId);
+        if (snapshot.isEmpty() && !postRepository.existsById(postId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "포스트를 찾을 수 없습니다.");
+        }
+        long views = postViewCounter.currentViews(
+                postId, snapshot.map(PostMetricsRepository.MetricsSnapshot::getViewsCount).orElse(0L));
+        long likes = snapshot.map(PostMetricsRepository.MetricsSnapshot::getLikesCount).orElse(0L);
+        return new PostEngagementResponse(views, likes, liked);
     }
 
+    private long currentViews(Long postId, PostMetricsEntity metrics) {
+        long persisted = metrics != null ? metrics.getViewsCount() : 0L;
+        return postViewCounter.currentViews(postId, persisted);
+    }
+
+    /**
+     * Picks the base slug or the lowest free numeric suffix with a single query over the slug prefix.
+     */
     private String generateUniqueSlug(String title, Long currentPostId) {
-        String baseSlug = toSlug(title);
+        String baseSlug = SlugNormalizer.toSlug(title);
         if (baseSlug.isBlank()) {
             baseSlug = "post";
         }
+        if (baseSlug.length() > MAX_BASE_SLUG_LENGTH) {
+            baseSlug = baseSlug.substring(0, MAX_BASE_SLUG_LENGTH).replaceAll("-$", "");
+        }
 
-        String candidate = baseSlug;
-        int suffix = 1;
-        while (true) {
-            Optional<PostEntity> existing = postRepository.findBySlug(candidate);
-            if (existing.isEmpty() || Objects.equals(existing.get().getId(), currentPostId)) {
-                return candidate;
+        String suffixPattern = escapeLike(baseSlug) + "-%";
+        List<String> taken = currentPostId == null
+                ? postRepository.findSlugsWithBase(baseSlug, suffixPattern)
+                : postRepository.findSlugsWithBaseExcluding(baseSlug, suffixPattern, currentPostId);
+        if (!taken.contains(baseSlug)) {
+            return baseSlug;
+        }
+        Set<Integer> usedSuffixes = new HashSet<>();
+        int prefixLength = baseSlug.length() + 1;
+        for (String slug : taken) {
+            String suffix = slug.length() > prefixLength ? slug.substring(prefixLength) : "";
+            if (!suffix.isEmpty() && suffix.length() <= 9 && suffix.chars().allMatch(ch -> ch >= '0' && ch <= '9')) {
+                usedSuffixes.add(Integer.parseInt(suffix));
             }
-            candidate = baseSlug + "-" + suffix++;
         }
+        int suffix = 1;
+        while (usedSuffixes.contains(suffix)) {
+            suffix++;
+        }
+        return baseSlug + "-" + suffix;
+    }
+
+    /**
+     * Escapes LIKE wildcards for an {@code ESCAPE '\'} clause, including SQL Server's {@code [} character class.
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_").replace("[", "\\[");
     }
 
-    private String toSlug(String input) {
-        if (!StringUtils.hasText(input)) {
-            return "";
+    private static boolean isRetryableCreateConflict(DataIntegrityViolationException ex) {
+        return violates(ex, "UQ_POSTS_SLUG") || violates(ex, "UQ_TAGS_SLUG") || DuplicateKeys.isDuplicateKey(ex, "AUTHOR_STATS");
+    }
+
+    private static boolean violates(DataIntegrityViolationException ex, String constraint) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toUpperCase(Locale.ROOT).contains(constraint)) {
+                return true;
+            }
         }
-        String normalized = Normalizer.normalize(input, Normalizer.Form.NFKC).trim();
-        String lowerCased = normalized.toLowerCase(Locale.ROOT);
-        String replaced = NON_SLUG_PATTERN.matcher(lowerCased).replaceAll("-");
-        String compacted = CONSECUTIVE_HYPHENS.matcher(replaced).replaceAll("-");
-        String trimmed = compacted.replaceAll("^-|-$", "");
-        return trimmed;
+        return false;
     }
 
     private String normalizeNullable(String value) {
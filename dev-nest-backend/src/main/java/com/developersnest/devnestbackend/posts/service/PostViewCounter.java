@@ -0,0 +1,199 @@
+package com.developersnest.devnestbackend.posts.service;
+
+import com.developersnest.devnestbackend.posts.entity.PostMetricsEntity;
+import com.developersnest.devnestbackend.posts.event.PostChangedEvent;
+import com.developersnest.devnestbackend.posts.event.PostViewedEvent;
+import com.developersnest.devnestbackend.posts.event.PostViewsFlushedEvent;
+import com.developersnest.devnestbackend.posts.repository.AuthorStatsRepository;
+import com.developersnest.devnestbackend.posts.repository.PostMetricsRepository;
+import com.developersnest.devnestbackend.posts.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-behind buffer for post views. Increments are striped by post id in memory and flushed to
+ * {@code post_metrics} as aggregated deltas, so hot posts no longer queue on a single row lock.
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    private static final int STRIPE_COUNT = 32;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    private final Object flushMonitor = new Object();
+    private final PostMetricsRepository postMetricsRepository;
+    private final PostRepository postRepository;
+    private final AuthorStatsRepository authorStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PostViewCounter(
+            PostMetricsRepository postMetricsRepository,
+            PostRepository postRepository,
+            AuthorStatsRepository authorStatsRepository,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.postMetricsRepository = postMetricsRepository;
+        this.postRepository = postRepository;
+        this.authorStatsRepository = authorStatsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Async
+    @EventListener
+    public void onPostViewed(PostViewedEvent event) {
+        record(event.postId());
+    }
+
+    public void record(Long postId) {
+        Stripe stripe = stripeFor(postId);
+        synchronized (stripe) {
+            stripe.pending.merge(postId, 1L, Long::sum);
+        }
+    }
+
+    /**
+     * Views of the post including buffered ones, given the {@code views_count} the caller just read. A flushed
+     * delta is added only while {@code persisted} predates its commit, so the total never counts a delta twice
+     * and never drops while it lands, as long as the caller read {@code persisted} within one flush interval.
+     */
+    public long currentViews(Long postId, long persisted) {
+        Stripe stripe = stripeFor(postId);
+        synchronized (stripe) {
+            long views = persisted + stripe.pending.getOrDefault(postId, 0L);
+            InFlight inFlight = stripe.recentFlushes.get(postId);
+            if (inFlight != null && persisted < inFlight.landedAt) {
+                views += inFlight.delta;
+            }
+            return views;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${devnest.posts.view-flush-interval-ms:5000}")
+    public void flush() {
+        synchronized (flushMonitor) {
+            Map<Long, InFlight> batch = new HashMap<>();
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    // Deltas of the previous cycle have been visible for a whole interval; a reader that read
+                    // views_count before one of them committed has long since called currentViews.
+                    stripe.recentFlushes.clear();
+                    stripe.pending.forEach((postId, delta) -> {
+                        InFlight inFlight = new InFlight(delta);
+                        stripe.recentFlushes.put(postId, inFlight);
+                        batch.put(postId, inFlight);
+                    });
+                    stripe.pending = new HashMap<>();
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            // One transaction per post, so a post that cannot be written does not hold back the others.
+            LocalDateTime viewedAt = LocalDateTime.now();
+            Set<Long> flushed = new HashSet<>();
+            batch.forEach((postId, inFlight) -> {
+                Stripe stripe = stripeFor(postId);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        long landedAt = applyViews(postId, inFlight.delta, viewedAt);
+                        synchronized (stripe) {
+                            inFlight.landedAt = landedAt;
+                        }
+                    });
+                    flushed.add(postId);
+                } catch (RuntimeException ex) {
+                    log.warn("Failed to flush {} buffered views of post {}, retrying on next cycle", inFlight.delta, postId, ex);
+                    synchronized (stripe) {
+                        stripe.recentFlushes.remove(postId);
+                        stripe.pending.merge(postId, inFlight.delta, Long::sum);
+                    }
+                }
+            });
+            if (!flushed.isEmpty()) {
+                eventPublisher.publishEvent(new PostViewsFlushedEvent(flushed));
+            }
+        }
+    }
+
+    /**
+     * Writes the delta and returns the resulting {@code views_count}, read under the row lock the write holds.
+     * A post deleted since its views were buffered is skipped; nothing will read its count again.
+     */
+    private long applyViews(Long postId, long delta, LocalDateTime viewedAt) {
+        if (postMetricsRepository.addViews(postId, delta, viewedAt) > 0) {
+            authorStatsRepository.adjustForPost(postId, delta, 0, 0);
+            return postMetricsRepository.findViewsCount(postId).orElse(delta);
+        }
+        if (!postRepository.existsById(postId)) {
+            return Long.MIN_VALUE;
+        }
+        authorStatsRepository.adjustForPost(postId, delta, 0, 0);
+        PostMetricsEntity metrics = new PostMetricsEntity();
+        metrics.setPost(postRepository.getReferenceById(postId));
+        metrics.setViewsCount(delta);
+        metrics.setLikesCount(0);
+        metrics.setLastViewAt(viewedAt);
+        postMetricsRepository.save(metrics);
+        return delta;
+    }
+
+    /**
+     * Drops views buffered for a deleted post. The flush would skip them anyway; this only frees the entry.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() != PostChangedEvent.Type.DELETED) {
+            return;
+        }
+        Stripe stripe = stripeFor(event.postId());
+        synchronized (stripe) {
+            stripe.pending.remove(event.postId());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Stripe stripeFor(Long postId) {
+        return stripes[Math.floorMod(postId.hashCode(), STRIPE_COUNT)];
+    }
+
+    private static final class Stripe {
+        private Map<Long, Long> pending = new HashMap<>();
+        // Deltas of the running flush and of the last completed one.
+        private final Map<Long, InFlight> recentFlushes = new HashMap<>();
+    }
+
+    private static final class InFlight {
+        private final long delta;
+        // views_count once this delta is written; readers seeing at least this much already have it.
+        private long landedAt = Long.MAX_VALUE;
+
+        private InFlight(long delta) {
+            this.delta = delta;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.developersnest.devnestbackend.posts.service;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import org.springframework.util.StringUtils;
+
+final class SlugNormalizer {
+
+    private static final Pattern NON_SLUG_PATTERN = Pattern.compile("[^\\p{IsAlphabetic}\\p{IsDigit}]+");
+    private static final Pattern CONSECUTIVE_HYPHENS = Pattern.compile("-+");
+    private static final Pattern EDGE_HYPHENS = Pattern.compile("^-|-$");
+
+    private SlugNormalizer() {
+    }
+
+    static String toSlug(String input) {
+        if (!StringUtils.hasText(input)) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(input, Normalizer.Form.NFKC).trim();
+        String lowerCased = normalized.toLowerCase(Locale.ROOT);
+        String replaced = NON_SLUG_PATTERN.matcher(lowerCased).replaceAll("-");
+        String compacted = CONSECUTIVE_HYPHENS.matcher(replaced).replaceAll("-");
+        return EDGE_HYPHENS.matcher(compacted).replaceAll("");
+    }
+}
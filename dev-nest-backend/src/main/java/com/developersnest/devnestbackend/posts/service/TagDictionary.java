@@ -0,0 +1,162 @@
+package com.developersnest.devnestbackend.posts.service;
+
+import com.developersnest.devnestbackend.posts.entity.TagEntity;
+import com.developersnest.devnestbackend.posts.entity.TagStatsEntity;
+import com.developersnest.devnestbackend.posts.repository.TagRepository;
+import com.developersnest.devnestbackend.posts.repository.TagStatsRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+/**
+ * Process-wide slug to tag dictionary. Tags are never deleted, so entries only need to be added, which
+ * happens after the inserting transaction commits. Slugs missing from the dictionary (for example tags
+ * created by another instance) are looked up in the database once per write before new tags are inserted.
+ */
+@Slf4j
+@Component
+public class TagDictionary {
+
+    private static final int SLUG_CACHE_SIZE = 10_000;
+
+    private final Map<String, Entry> entriesBySlug = new ConcurrentHashMap<>();
+    private final Cache<String, String> slugsByInput = Caffeine.newBuilder()
+            .maximumSize(SLUG_CACHE_SIZE)
+            .build();
+    private final TagRepository tagRepository;
+
+    private final TagStatsRepository tagStatsRepository;
+
+    public TagDictionary(TagRepository tagRepository, TagStatsRepository tagStatsRepository) {
+        this.tagRepository = tagRepository;
+        this.tagStatsRepository = tagStatsRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        tagRepository.findAllEntries()
+                .forEach(row -> entriesBySlug.put(row.getSlug(), new Entry(row.getId(), row.getSlug(), row.getName())));
+        log.info("Tag dictionary loaded with {} tags", entriesBySlug.size());
+    }
+
+    public String slugFor(String displayName) {
+        return slugsByInput.get(displayName, SlugNormalizer::toSlug);
+    }
+
+    /**
+     * Looks up an existing tag by display name or slug without creating it.
+     */
+    public Optional<Entry> find(String tag) {
+        if (!StringUtils.hasText(tag)) {
+            return Optional.empty();
+        }
+        String slug = slugFor(tag.trim());
+        Entry entry = entriesBySlug.get(slug);
+        if (entry != null) {
+            return Optional.of(entry);
+        }
+        return tagRepository.findBySlug(slug).map(TagDictionary::toEntry);
+    }
+
+    /**
+     * Resolves raw tag input to tag entries in input order, inserting unknown tags in one batch.
+     * Must be called inside a transaction.
+     */
+    public List<Entry> resolve(List<String> rawTags) {
+        if (rawTags == null || rawTags.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, String> slugToDisplayName = new LinkedHashMap<>();
+        for (String rawTag : rawTags) {
+            if (!StringUtils.hasText(rawTag)) {
+                continue;
+            }
+            String displayName = rawTag.trim();
+            String slug = slugFor(displayName);
+            if (!slug.isBlank()) {
+                slugToDisplayName.putIfAbsent(slug, displayName);
+            }
+        }
+        if (slugToDisplayName.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> missing = slugToDisplayName.keySet().stream()
+                .filter(slug -> !entriesBySlug.containsKey(slug))
+                .toList();
+        Map<String, Entry> found = missing.isEmpty() ? Map.of() : loadOrCreate(missing, slugToDisplayName);
+
+        List<Entry> resolved = new ArrayList<>(slugToDisplayName.size());
+        for (String slug : slugToDisplayName.keySet()) {
+            Entry entry = entriesBySlug.get(slug);
+            resolved.add(entry != null ? entry : found.get(slug));
+        }
+        return resolved;
+    }
+
+    private Map<String, Entry> loadOrCreate(List<String> slugs, Map<String, String> slugToDisplayName) {
+        Map<String, TagEntity> existing = tagRepository.findBySlugIn(slugs).stream()
+                .collect(Collectors.toMap(TagEntity::getSlug, Function.identity()));
+        List<TagEntity> created = new ArrayList<>();
+        for (String slug : slugs) {
+            if (!existing.containsKey(slug)) {
+                TagEntity tag = new TagEntity();
+                tag.setSlug(slug);
+                tag.setName(slugToDisplayName.get(slug));
+                created.add(tag);
+            }
+        }
+        if (!created.isEmpty()) {
+            tagRepository.saveAll(created);
+            tagStatsRepository.saveAll(created.stream().map(TagDictionary::emptyStats).toList());
+        }
+
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        existing.values().forEach(tag -> entries.put(tag.getSlug(), toEntry(tag)));
+        created.forEach(tag -> entries.put(tag.getSlug(), toEntry(tag)));
+        registerAfterCommit(entries);
+        return entries;
+    }
+
+    private void registerAfterCommit(Map<String, Entry> entries) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entriesBySlug.putAll(entries);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entriesBySlug.putAll(entries);
+            }
+        });
+    }
+
+    private static TagStatsEntity emptyStats(TagEntity tag) {
+        TagStatsEntity stats = new TagStatsEntity();
+        stats.setTag(tag);
+        stats.setPostCount(0);
+        return stats;
+    }
+
+    private static Entry toEntry(TagEntity tag) {
+        return new Entry(tag.getId(), tag.getSlug(), tag.getName());
+    }
+
+    public record Entry(Long id, String slug, String name) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.developersnest.devnestbackend.posts.service;
+
+import com.developersnest.devnestbackend.posts.dto.TagResponse;
+import com.developersnest.devnestbackend.posts.repository.TagStatsRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class TagService {
+
+    private final TagStatsRepository tagStatsRepository;
+
+    @Transactional(readOnly = true)
+    public List<TagResponse> getPopularTags(Integer limit) {
+        int size = limit != null && limit > 0 ? Math.min(limit, 100) : 20;
+        return tagStatsRepository.findPopular(PageRequest.of(0, size)).stream()
+                .map(row -> new TagResponse(row.getName(), row.getSlug(), row.getPostCount()))
+                .toList();
+    }
+}
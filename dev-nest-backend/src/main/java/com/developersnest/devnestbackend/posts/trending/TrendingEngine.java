@@ -0,0 +1,254 @@
+package com.developersnest.devnestbackend.posts.trending;
+
+import com.developersnest.devnestbackend.posts.entity.PostTrendingScoreEntity;
+import com.developersnest.devnestbackend.posts.event.PostChangedEvent;
+import com.developersnest.devnestbackend.posts.event.PostLikedEvent;
+import com.developersnest.devnestbackend.posts.event.PostViewedEvent;
+import com.developersnest.devnestbackend.posts.repository.PostTrendingScoreRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Exponentially time-decayed popularity per post, kept in memory for each {@link TrendingWindow}.
+ *
+ * <p>Scores use forward decay: an interaction at time {@code t} adds {@code weight * e^(λ(t - landmark))},
+ * so older scores never have to be touched and the ordering between posts stays valid as time passes.
+ * Each window keeps its posts in a skip list ordered by score, which makes a top-K read O(K).
+ * Scores are checkpointed to {@code post_trending_scores} and restored on startup.
+ */
+@Slf4j
+@Component
+public class TrendingEngine {
+
+    static final double VIEW_WEIGHT = 1.0;
+    static final double LIKE_WEIGHT = 5.0;
+    // Scores below this (decayed to now) are dropped at checkpoint time to keep the maps bounded.
+    private static final double MIN_SCORE = 0.05;
+    // Re-base before e^(λ(t - landmark)) grows large enough to lose precision.
+    private static final double MAX_EXPONENT = 40.0;
+
+    private final Map<TrendingWindow, WindowScores> windows = new EnumMap<>(TrendingWindow.class);
+    private final PostTrendingScoreRepository scoreRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Object checkpointMonitor = new Object();
+
+    public TrendingEngine(PostTrendingScoreRepository scoreRepository, TransactionTemplate transactionTemplate) {
+        this.scoreRepository = scoreRepository;
+        this.transactionTemplate = transactionTemplate;
+        double now = nowSeconds();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            windows.put(window, new WindowScores(Math.log(2) / window.halfLife().toSeconds(), now));
+        }
+    }
+
+    @Async
+    @EventListener
+    public void onPostViewed(PostViewedEvent event) {
+        record(event.postId(), VIEW_WEIGHT);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostLiked(PostLikedEvent event) {
+        // An unlike is not subtracted: the like it cancels may have mostly decayed, or predate a restart and
+        // never have been counted, so subtracting a fresh like's value would wipe out unrelated score. The
+        // cancelled like simply decays away with the rest.
+        if (event.delta() > 0) {
+            record(event.postId(), event.delta() * LIKE_WEIGHT);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            windows.values().forEach(scores -> scores.remove(event.postId()));
+        }
+    }
+
+    public void record(Long postId, double weight) {
+        double now = nowSeconds();
+        windows.values().forEach(scores -> scores.add(postId, weight, now));
+    }
+
+    /**
+     * Ids of the highest scoring posts, best first.
+     */
+    public List<Long> top(TrendingWindow window, int limit) {
+        return windows.get(window).top(limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            double now = nowSeconds();
+            List<PostTrendingScoreEntity> rows = scoreRepository.findAll();
+            for (PostTrendingScoreEntity row : rows) {
+                double elapsed = Math.max(0, now - toSeconds(row.getScoredAt()));
+                restore(TrendingWindow.DAY, row.getId(), row.getDayScore(), elapsed, now);
+                restore(TrendingWindow.WEEK, row.getId(), row.getWeekScore(), elapsed, now);
+                restore(TrendingWindow.MONTH, row.getId(), row.getMonthScore(), elapsed, now);
+            }
+            log.info("Trending scores restored for {} posts", rows.size());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to restore trending scores, starting from empty rankings", ex);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${devnest.posts.trending-checkpoint-interval-ms:60000}",
+            fixedDelayString = "${devnest.posts.trending-checkpoint-interval-ms:60000}"
+    )
+    public void checkpoint() {
+        synchronized (checkpointMonitor) {
+            double now = nowSeconds();
+            LocalDateTime scoredAt = toDateTime(now);
+            Map<Long, PostTrendingScoreEntity> rows = new HashMap<>();
+            windows.forEach((window, scores) -> scores.decayedTo(now).forEach((postId, score) -> {
+                PostTrendingScoreEntity row = rows.computeIfAbsent(postId, id -> {
+                    PostTrendingScoreEntity created = new PostTrendingScoreEntity();
+                    created.setId(id);
+                    created.setScoredAt(scoredAt);
+                    return created;
+                });
+                switch (window) {
+                    case DAY -> row.setDayScore(score);
+                    case WEEK -> row.setWeekScore(score);
+                    case MONTH -> row.setMonthScore(score);
+                }
+            }));
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    scoreRepository.deleteAllScores();
+                    scoreRepository.saveAll(rows.values());
+                });
+            } catch (RuntimeException ex) {
+                log.warn("Failed to checkpoint trending scores for {} posts", rows.size(), ex);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        checkpoint();
+    }
+
+    private void restore(TrendingWindow window, Long postId, double score, double elapsed, double now) {
+        WindowScores scores = windows.get(window);
+        double decayed = score * Math.exp(-scores.lambda * elapsed);
+        if (decayed >= MIN_SCORE) {
+            scores.add(postId, decayed, now);
+        }
+    }
+
+    private static double nowSeconds() {
+        return System.currentTimeMillis() / 1000.0;
+    }
+
+    private static double toSeconds(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / 1000.0;
+    }
+
+    private static LocalDateTime toDateTime(double seconds) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli((long) (seconds * 1000)), ZoneId.systemDefault());
+    }
+
+    private static final class WindowScores {
+
+        private static final Comparator<Ranked> BY_SCORE = Comparator.comparingDouble(Ranked::score).reversed()
+                .thenComparing(Ranked::postId, Comparator.reverseOrder());
+
+        private final double lambda;
+        private final Map<Long, Double> scores = new HashMap<>();
+        private final ConcurrentSkipListSet<Ranked> ranking = new ConcurrentSkipListSet<>(BY_SCORE);
+        private double landmark;
+
+        private WindowScores(double lambda, double landmark) {
+            this.lambda = lambda;
+            this.landmark = landmark;
+        }
+
+        synchronized void add(Long postId, double weight, double now) {
+            if (lambda * (now - landmark) > MAX_EXPONENT) {
+                rebase(now);
+            }
+            double increment = weight * Math.exp(lambda * (now - landmark));
+            Double previous = scores.get(postId);
+            if (previous != null) {
+                ranking.remove(new Ranked(postId, previous));
+            }
+            double next = (previous != null ? previous : 0.0) + increment;
+            if (next <= 0) {
+                scores.remove(postId);
+                return;
+            }
+            scores.put(postId, next);
+            ranking.add(new Ranked(postId, next));
+        }
+
+        synchronized void remove(Long postId) {
+            Double previous = scores.remove(postId);
+            if (previous != null) {
+                ranking.remove(new Ranked(postId, previous));
+            }
+        }
+
+        // Lock-free: the skip list iterator is weakly consistent, which is fine for a ranking read.
+        List<Long> top(int limit) {
+            List<Long> ids = new ArrayList<>(limit);
+            Iterator<Ranked> iterator = ranking.iterator();
+            while (ids.size() < limit && iterator.hasNext()) {
+                ids.add(iterator.next().postId());
+            }
+            return ids;
+        }
+
+        /**
+         * Scores decayed to {@code now}. Posts that have decayed below the threshold are dropped.
+         */
+        synchronized Map<Long, Double> decayedTo(double now) {
+            double factor = Math.exp(-lambda * (now - landmark));
+            Map<Long, Double> decayed = new HashMap<>();
+            Iterator<Map.Entry<Long, Double>> iterator = scores.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Double> entry = iterator.next();
+                double value = entry.getValue() * factor;
+                if (value < MIN_SCORE) {
+                    ranking.remove(new Ranked(entry.getKey(), entry.getValue()));
+                    iterator.remove();
+                } else {
+                    decayed.put(entry.getKey(), value);
+                }
+            }
+            return decayed;
+        }
+
+        private void rebase(double now) {
+            double factor = Math.exp(-lambda * (now - landmark));
+            ranking.clear();
+            scores.replaceAll((postId, score) -> score * factor);
+            scores.forEach((postId, score) -> ranking.add(new Ranked(postId, score)));
+            landmark = now;
+        }
+    }
+
+    private record Ranked(Long postId, double score) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.developersnest.devnestbackend.posts.trending;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Trending windows, expressed as the half-life of an interaction's weight.
+ */
+public enum TrendingWindow {
+    DAY(Duration.ofHours(6)),
+    WEEK(Duration.ofDays(2)),
+    MONTH(Duration.ofDays(7));
+
+    private final Duration halfLife;
+
+    TrendingWindow(Duration halfLife) {
+        this.halfLife = halfLife;
+    }
+
+    public Duration halfLife() {
+        return halfLife;
+    }
+
+    public static Optional<TrendingWindow> from(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.of(DAY);
+        }
+        try {
+            return Optional.of(valueOf(value.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+}
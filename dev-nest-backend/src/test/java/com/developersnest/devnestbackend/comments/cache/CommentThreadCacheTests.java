@@ -0,0 +1,103 @@
+package com.developersnest.devnestbackend.comments.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.developersnest.devnestbackend.auth.entity.UserEntity;
+import com.developersnest.devnestbackend.auth.entity.UserRole;
+import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.comments.dto.CreateCommentRequest;
+import com.developersnest.devnestbackend.comments.dto.UpdateCommentRequest;
+import com.developersnest.devnestbackend.comments.service.CommentService;
+import com.developersnest.devnestbackend.posts.dto.PostWriteRequest;
+import com.developersnest.devnestbackend.posts.service.PostService;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CommentThreadCacheTests {
+
+    @Autowired
+    private CommentThreadCache commentThreadCache;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void patchedThreadMatchesFreshlyAssembledOne() {
+        Long authorId = createUser("thread-cache-author");
+        Long viewerId = createUser("thread-cache-viewer");
+        Long postId = postService.createPost(authorId,
+                new PostWriteRequest("thread cache", "본문", null, null, List.of())).id();
+        Long firstRoot = comment(postId, authorId, "첫 댓글", null);
+        CommentThread cached = commentThreadCache.get(postId);
+
+        Long reply = comment(postId, viewerId, "답글", firstRoot);
+        Long nestedReply = comment(postId, authorId, "답글의 답글", reply);
+        Long secondRoot = comment(postId, viewerId, "둘째 댓글", null);
+        Long removedReply = comment(postId, viewerId, "지울 답글", firstRoot);
+        commentService.updateComment(firstRoot, authorId, new UpdateCommentRequest("고친 **첫 댓글**"));
+        commentService.deleteComment(removedReply, viewerId);
+        commentService.likeComment(firstRoot, viewerId);
+        commentService.addReaction(nestedReply, viewerId, "heart");
+        commentService.addReaction(secondRoot, authorId, "celebrate");
+        commentService.removeReaction(secondRoot, authorId, "celebrate");
+        commentService.addReaction(secondRoot, authorId, "laugh");
+
+        // Every change was patched into the cached thread rather than evicting it.
+        assertThat(commentThreadCache.get(postId)).isSameAs(cached);
+        List<Object> patched = snapshot(cached, List.of(firstRoot, reply, nestedReply, secondRoot));
+
+        commentThreadCache.invalidateAll();
+        CommentThread fresh = commentThreadCache.get(postId);
+
+        assertThat(fresh).isNotSameAs(cached);
+        assertThat(patched).usingRecursiveComparison()
+                .isEqualTo(snapshot(fresh, List.of(firstRoot, reply, nestedReply, secondRoot)));
+        assertThat(cached.visibleCount()).isEqualTo(4);
+        assertThat(cached.roots(null, null, 10, 3).items())
+                .extracting(item -> item.comment().id())
+                .containsExactly(firstRoot, secondRoot);
+        assertThat(cached.replies(firstRoot, null, null, 10).items())
+                .extracting(item -> item.comment().id(), item -> item.comment().deleted())
+                .containsExactly(
+                        tuple(reply, false),
+                        tuple(removedReply, true));
+    }
+
+    private static List<Object> snapshot(CommentThread thread, List<Long> parentIds) {
+        List<Object> parts = new ArrayList<>();
+        parts.add(thread.visibleCount());
+        parts.add(thread.roots(null, null, 10, 3));
+        parts.add(thread.roots(null, null, 1, 1));
+        for (Long parentId : parentIds) {
+            parts.add(thread.replies(parentId, null, null, 10));
+        }
+        return parts;
+    }
+
+    private Long comment(Long postId, Long userId, String body, Long parentId) {
+        return commentService.createComment(postId, userId, new CreateCommentRequest(body, parentId)).id();
+    }
+
+    private Long createUser(String username) {
+        UserEntity user = new UserEntity();
+        user.setUsername(username);
+        user.setEmail(username + "@devnest.dev");
+        user.setPasswordHash("hash");
+        user.setDisplayName(username);
+        user.setRole(UserRole.MEMBER);
+        return userRepository.save(user).getId();
+    }
+}
@@ -0,0 +1,88 @@
+package com.developersnest.devnestbackend.comments.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.developersnest.devnestbackend.auth.entity.UserEntity;
+import com.developersnest.devnestbackend.auth.entity.UserRole;
+import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.auth.security.UserPrincipal;
+import com.developersnest.devnestbackend.comments.dto.CreateCommentRequest;
+import com.developersnest.devnestbackend.comments.service.CommentService;
+import com.developersnest.devnestbackend.posts.dto.PostWriteRequest;
+import com.developersnest.devnestbackend.posts.service.PostService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CommentControllerConditionalGetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void commentTagsDifferPerViewerAndMoveOnReactions() throws Exception {
+        UserEntity author = createUser("etag-comments-author");
+        UserEntity reader = createUser("etag-comments-reader");
+        Long postId = postService.createPost(author.getId(),
+                new PostWriteRequest("etag comments", "본문", null, null, List.of())).id();
+        Long commentId = commentService.createComment(postId, author.getId(), new CreateCommentRequest("댓글", null)).id();
+
+        String anonymous = commentsTag(postId, null, null, 200);
+        String asAuthor = commentsTag(postId, author, null, 200);
+        String asReader = commentsTag(postId, reader, null, 200);
+
+        assertThat(List.of(anonymous, asAuthor, asReader)).doesNotHaveDuplicates();
+        commentsTag(postId, author, asAuthor, 304);
+        commentsTag(postId, reader, asReader, 304);
+        // Another viewer's tag never revalidates a personalised page.
+        commentsTag(postId, reader, asAuthor, 200);
+
+        commentService.likeComment(commentId, reader.getId());
+
+        assertThat(commentsTag(postId, author, asAuthor, 200)).isNotEqualTo(asAuthor);
+        assertThat(commentsTag(postId, null, anonymous, 200)).isNotEqualTo(anonymous);
+    }
+
+    private String commentsTag(Long postId, UserEntity viewer, String ifNoneMatch, int expectedStatus) throws Exception {
+        var request = get("/api/posts/{postId}/comments", postId);
+        if (viewer != null) {
+            request.with(user(UserPrincipal.from(viewer)));
+        }
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().is(expectedStatus))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private UserEntity createUser(String username) {
+        UserEntity user = new UserEntity();
+        user.setUsername(username);
+        user.setEmail(username + "@devnest.dev");
+        user.setPasswordHash("hash");
+        user.setDisplayName(username);
+        user.setRole(UserRole.MEMBER);
+        return userRepository.save(user);
+    }
+}
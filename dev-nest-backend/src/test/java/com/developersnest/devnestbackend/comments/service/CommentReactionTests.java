@@ -0,0 +1,205 @@
+package com.developersnest.devnestbackend.comments.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.developersnest.devnestbackend.auth.entity.UserEntity;
+import com.developersnest.devnestbackend.auth.entity.UserRole;
+import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.comments.dto.CommentReactionResponse;
+import com.developersnest.devnestbackend.comments.dto.CreateCommentRequest;
+import com.developersnest.devnestbackend.comments.entity.CommentReactionType;
+import com.developersnest.devnestbackend.posts.dto.PostWriteRequest;
+import com.developersnest.devnestbackend.posts.service.PostService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CommentReactionTests {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentReactionCountRepairJob repairJob;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void likingAndUnlikingTwiceCountsOnce() {
+        Long authorId = createUser("reaction-twice-author");
+        Long viewerId = createUser("reaction-twice-viewer");
+        Long commentId = createComment(authorId, "reaction twice");
+
+        CommentReactionResponse firstLike = commentService.likeComment(commentId, viewerId);
+        CommentReactionResponse secondLike = commentService.likeComment(commentId, viewerId);
+
+        assertThat(firstLike.likeCount()).isEqualTo(1);
+        assertThat(secondLike.likeCount()).isEqualTo(1);
+        assertThat(secondLike.liked()).isTrue();
+        assertThat(storedLikeCount(commentId)).isEqualTo(1);
+
+        CommentReactionResponse firstUnlike = commentService.unlikeComment(commentId, viewerId);
+        CommentReactionResponse secondUnlike = commentService.unlikeComment(commentId, viewerId);
+
+        assertThat(firstUnlike.likeCount()).isZero();
+        assertThat(secondUnlike.likeCount()).isZero();
+        assertThat(secondUnlike.liked()).isFalse();
+        assertThat(storedLikeCount(commentId)).isZero();
+    }
+
+    @Test
+    void concurrentDuplicateLikesAllSucceedAndCountOnce() throws Exception {
+        Long authorId = createUser("reaction-race-author");
+        Long viewerId = createUser("reaction-race-viewer");
+        Long commentId = createComment(authorId, "reaction race");
+        int threads = 8;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<CommentReactionResponse> responses = new ArrayList<>();
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<CommentReactionResponse>> likes = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                likes.add(pool.submit(() -> {
+                    start.await();
+                    return commentService.likeComment(commentId, viewerId);
+                }));
+            }
+            start.countDown();
+            for (Future<CommentReactionResponse> like : likes) {
+                responses.add(like.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.liked()).isTrue();
+            assertThat(response.likeCount()).isEqualTo(1);
+        });
+        assertThat(storedLikeCount(commentId)).isEqualTo(1);
+    }
+
+    @Test
+    void repairJobReconcilesCorruptedCounters() {
+        Long authorId = createUser("reaction-repair-author");
+        Long viewerId = createUser("reaction-repair-viewer");
+        Long commentId = createComment(authorId, "reaction repair");
+        commentService.likeComment(commentId, authorId);
+        commentService.likeComment(commentId, viewerId);
+        jdbcTemplate.update("UPDATE comments SET like_count = 42 WHERE comment_id = ?", commentId);
+
+        repairJob.repair();
+
+        assertThat(storedLikeCount(commentId)).isEqualTo(2);
+        assertThat(commentService.likeComment(commentId, viewerId).likeCount()).isEqualTo(2);
+    }
+
+    @Test
+    void eachReactionTypeMovesOnlyItsOwnColumn() {
+        Long authorId = createUser("reaction-types-author");
+        Long viewerId = createUser("reaction-types-viewer");
+        Long commentId = createComment(authorId, "reaction types");
+
+        commentService.addReaction(commentId, authorId, "heart");
+        commentService.addReaction(commentId, viewerId, "heart");
+        commentService.addReaction(commentId, viewerId, "laugh");
+        commentService.addReaction(commentId, viewerId, "laugh");
+        CommentReactionResponse state = commentService.addReaction(commentId, viewerId, "celebrate");
+
+        assertThat(state.reactions()).containsExactly(0, 2, 1, 0, 0, 1);
+        assertThat(state.likeCount()).isZero();
+        assertThat(state.liked()).isFalse();
+        assertThat(storedCounts(commentId)).containsExactly(0L, 2L, 1L, 0L, 0L, 1L);
+
+        state = commentService.removeReaction(commentId, viewerId, "heart");
+        commentService.removeReaction(commentId, viewerId, "heart");
+
+        assertThat(state.reactions()).containsExactly(0, 1, 1, 0, 0, 1);
+        assertThat(storedCounts(commentId)).containsExactly(0L, 1L, 1L, 0L, 0L, 1L);
+    }
+
+    @Test
+    void myReactionsHasOneBitPerReactionOfTheViewer() {
+        Long authorId = createUser("reaction-mask-author");
+        Long viewerId = createUser("reaction-mask-viewer");
+        Long commentId = createComment(authorId, "reaction mask");
+        commentService.addReaction(commentId, authorId, "sad");
+
+        commentService.likeComment(commentId, viewerId);
+        commentService.addReaction(commentId, viewerId, "wow");
+        CommentReactionResponse state = commentService.addReaction(commentId, viewerId, "celebrate");
+
+        assertThat(state.myReactions()).isEqualTo(
+                CommentReactionType.LIKE.mask() | CommentReactionType.WOW.mask() | CommentReactionType.CELEBRATE.mask());
+        assertThat(state.liked()).isTrue();
+
+        state = commentService.removeReaction(commentId, viewerId, "like");
+
+        assertThat(state.myReactions()).isEqualTo(CommentReactionType.WOW.mask() | CommentReactionType.CELEBRATE.mask());
+        assertThat(state.liked()).isFalse();
+    }
+
+    @Test
+    void unknownReactionIsRejected() {
+        Long authorId = createUser("reaction-unknown-author");
+        Long commentId = createComment(authorId, "reaction unknown");
+
+        assertThatThrownBy(() -> commentService.addReaction(commentId, authorId, "angry"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> commentService.removeReaction(commentId, authorId, "LIKE"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThat(storedCounts(commentId)).containsOnly(0L);
+    }
+
+    private List<Long> storedCounts(Long commentId) {
+        Map<String, Object> row = jdbcTemplate.queryForMap("""
+                SELECT like_count, heart_count, laugh_count, wow_count, sad_count, celebrate_count
+                FROM comments WHERE comment_id = ?
+                """, commentId);
+        return row.values().stream().map(value -> ((Number) value).longValue()).toList();
+    }
+
+    private long storedLikeCount(Long commentId) {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM comments WHERE comment_id = ?", Long.class, commentId);
+    }
+
+    private Long createComment(Long authorId, String title) {
+        Long postId = postService.createPost(authorId, new PostWriteRequest(title, "본문", null, null, List.of())).id();
+        return commentService.createComment(postId, authorId, new CreateCommentRequest("댓글 " + title, null)).id();
+    }
+
+    private Long createUser(String username) {
+        UserEntity user = new UserEntity();
+        user.setUsername(username);
+        user.setEmail(username + "@devnest.dev");
+        user.setPasswordHash("hash");
+        user.setDisplayName(username);
+        user.setRole(UserRole.MEMBER);
+        return userRepository.save(user).getId();
+    }
+}
@@ -0,0 +1,83 @@
+package com.developersnest.devnestbackend.common.markdown;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.developersnest.devnestbackend.auth.entity.UserEntity;
+import com.developersnest.devnestbackend.auth.entity.UserRole;
+import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.comments.dto.CreateCommentRequest;
+import com.developersnest.devnestbackend.comments.repository.CommentRepository;
+import com.developersnest.devnestbackend.comments.service.CommentService;
+import com.developersnest.devnestbackend.posts.dto.PostWriteRequest;
+import com.developersnest.devnestbackend.posts.repository.PostContentRepository;
+import com.developersnest.devnestbackend.posts.service.PostService;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MarkdownBackfillJobTests {
+
+    @Autowired
+    private MarkdownBackfillJob markdownBackfillJob;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostContentRepository postContentRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void blankBodiesAreFilledOnceAndNotRescanned() {
+        Long authorId = createAuthor();
+        Long postId = postService.createPost(authorId, new PostWriteRequest("backfill blank", "본문", null, null, List.of())).id();
+        Long renderedCommentId = commentService.createComment(postId, authorId, new CreateCommentRequest("**굵게**", null)).id();
+        Long blankCommentId = commentService.createComment(postId, authorId, new CreateCommentRequest("댓글", null)).id();
+        // Rows as stored before rendering moved to write time, one of them with a blank body.
+        jdbcTemplate.update("UPDATE post_contents SET content_markdown = ' ', content_html = NULL WHERE post_id = ?", postId);
+        jdbcTemplate.update("UPDATE comments SET body_html = NULL WHERE comment_id = ?", renderedCommentId);
+        jdbcTemplate.update("UPDATE comments SET body_markdown = ' ', body_html = NULL WHERE comment_id = ?", blankCommentId);
+
+        markdownBackfillJob.run();
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(postContentRepository.findUnrendered(0L, PageRequest.of(0, 1000))).isEmpty();
+            assertThat(commentRepository.findUnrendered(0L, PageRequest.of(0, 1000))).isEmpty();
+        });
+        assertThat(jdbcTemplate.queryForObject("SELECT content_html FROM post_contents WHERE post_id = ?", String.class, postId))
+                .isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT body_html FROM comments WHERE comment_id = ?", String.class, blankCommentId))
+                .isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT body_html FROM comments WHERE comment_id = ?", String.class, renderedCommentId))
+                .contains("<strong>굵게</strong>");
+    }
+
+    private Long createAuthor() {
+        UserEntity author = new UserEntity();
+        author.setUsername("backfill-author");
+        author.setEmail("backfill-author@devnest.dev");
+        author.setPasswordHash("hash");
+        author.setDisplayName("backfill-author");
+        author.setRole(UserRole.MEMBER);
+        return userRepository.save(author).getId();
+    }
+}
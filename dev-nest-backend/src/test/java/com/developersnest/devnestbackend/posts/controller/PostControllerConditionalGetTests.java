@@ -0,0 +1,114 @@
+package com.developersnest.devnestbackend.posts.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.developersnest.devnestbackend.auth.entity.UserEntity;
+import com.developersnest.devnestbackend.auth.entity.UserRole;
+import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.comments.dto.CreateCommentRequest;
+import com.developersnest.devnestbackend.comments.service.CommentService;
+import com.developersnest.devnestbackend.posts.dto.PostDetailResponse;
+import com.developersnest.devnestbackend.posts.dto.PostWriteRequest;
+import com.developersnest.devnestbackend.posts.service.PostService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+// Only the writes the tests make move the listing tag.
+@TestPropertySource(properties = "devnest.posts.view-flush-interval-ms=3600000")
+class PostControllerConditionalGetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void listingTagMatchesUntilAnEditLikeOrComment() throws Exception {
+        Long authorId = createUser("etag-list-author");
+        Long readerId = createUser("etag-list-reader");
+        PostDetailResponse post = postService.createPost(authorId, request("etag listing"));
+
+        String initial = listingTag(null, 200);
+        listingTag(initial, 304);
+
+        postService.updatePost(post.id(), authorId, request("etag listing edited"));
+        String afterEdit = listingTag(initial, 200);
+
+        postService.likePost(post.id(), readerId);
+        String afterLike = listingTag(afterEdit, 200);
+
+        commentService.createComment(post.id(), readerId, new CreateCommentRequest("댓글", null));
+        String afterComment = listingTag(afterLike, 200);
+
+        assertThat(List.of(initial, afterEdit, afterLike, afterComment)).doesNotHaveDuplicates();
+        listingTag(afterComment, 304);
+    }
+
+    @Test
+    void detailTagMatchesUntilThePostIsEdited() throws Exception {
+        Long authorId = createUser("etag-detail-author");
+        PostDetailResponse post = postService.createPost(authorId, request("etag detail"));
+
+        String initial = detailTag(post.slug(), null, 200);
+        detailTag(post.slug(), initial, 304);
+
+        postService.updatePost(post.id(), authorId, request("etag detail edited"));
+        String afterEdit = detailTag(post.slug(), initial, 200);
+
+        assertThat(afterEdit).isNotEqualTo(initial);
+        detailTag(post.slug(), afterEdit, 304);
+    }
+
+    private String listingTag(String ifNoneMatch, int expectedStatus) throws Exception {
+        var request = get("/api/posts").param("size", "5");
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().is(expectedStatus))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private String detailTag(String slug, String ifNoneMatch, int expectedStatus) throws Exception {
+        var request = get("/api/posts/slug/{slug}", slug);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().is(expectedStatus))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private Long createUser(String username) {
+        UserEntity user = new UserEntity();
+        user.setUsername(username);
+        user.setEmail(username + "@devnest.dev");
+        user.setPasswordHash("hash");
+        user.setDisplayName(username);
+        user.setRole(UserRole.MEMBER);
+        return userRepository.save(user).getId();
+    }
+
+    private static PostWriteRequest request(String title) {
+        return new PostWriteRequest(title, "본문 " + title, null, null, List.of());
+    }
+}
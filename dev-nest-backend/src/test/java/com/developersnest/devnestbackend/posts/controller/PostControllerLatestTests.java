@@ -0,0 +1,105 @@
+package com.developersnest.devnestbackend.posts.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.developersnest.devnestbackend.auth.entity.UserEntity;
+import com.developersnest.devnestbackend.auth.entity.UserRole;
+import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.posts.dto.PostWriteRequest;
+import com.developersnest.devnestbackend.posts.service.PostService;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+// Only the writes the tests make move the listing tag.
+@TestPropertySource(properties = "devnest.posts.view-flush-interval-ms=3600000")
+class PostControllerLatestTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void gzipBodyDecompressesToTheIdentityBody() throws Exception {
+        createPosts("latest-gzip", 12);
+
+        MockHttpServletResponse identity = latest("12", null);
+        MockHttpServletResponse gzipped = latest("12", "br, gzip;q=0.8");
+
+        assertThat(identity.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(identity.getContentAsByteArray().length).isGreaterThanOrEqualTo(1024);
+        assertThat(gzipped.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gunzip(gzipped.getContentAsByteArray())).isEqualTo(identity.getContentAsByteArray());
+        assertThat(gzipped.getHeader(HttpHeaders.ETAG)).isEqualTo(identity.getHeader(HttpHeaders.ETAG));
+        assertThat(gzipped.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    void gzipRefusedWithZeroQualityIsServedAsIdentity() throws Exception {
+        createPosts("latest-q0", 12);
+        byte[] identity = latest("12", null).getContentAsByteArray();
+
+        for (String acceptEncoding : List.of("gzip;q=0", "gzip; q=0.0, *", "*;q=0", "identity")) {
+            MockHttpServletResponse response = latest("12", acceptEncoding);
+            assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).as(acceptEncoding).isNull();
+            assertThat(response.getContentAsByteArray()).as(acceptEncoding).isEqualTo(identity);
+        }
+        assertThat(latest("12", "*").getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    }
+
+    @Test
+    void outOfRangeLimitsShareTheClampedTag() throws Exception {
+        createPosts("latest-clamp", 1);
+
+        assertThat(latest("500", null).getHeader(HttpHeaders.ETAG)).isEqualTo(latest("50", null).getHeader(HttpHeaders.ETAG));
+        assertThat(latest("-3", null).getHeader(HttpHeaders.ETAG)).isEqualTo(latest("1", null).getHeader(HttpHeaders.ETAG));
+    }
+
+    private MockHttpServletResponse latest(String limit, String acceptEncoding) throws Exception {
+        var request = get("/api/posts/latest").param("limit", limit);
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return mockMvc.perform(request).andExpect(status().isOk()).andReturn().getResponse();
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return input.readAllBytes();
+        }
+    }
+
+    private void createPosts(String username, int count) {
+        UserEntity author = new UserEntity();
+        author.setUsername(username);
+        author.setEmail(username + "@devnest.dev");
+        author.setPasswordHash("hash");
+        author.setDisplayName(username);
+        author.setRole(UserRole.MEMBER);
+        Long authorId = userRepository.save(author).getId();
+        for (int i = 0; i < count; i++) {
+            postService.createPost(authorId, new PostWriteRequest(username + " post " + i, "본문",
+                    "요약 " + username + " " + i, null, List.of()));
+        }
+    }
+}
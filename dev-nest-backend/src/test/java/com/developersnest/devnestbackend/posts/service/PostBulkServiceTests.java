@@ -0,0 +1,162 @@
+package com.developersnest.devnestbackend.posts.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.developersnest.devnestbackend.auth.entity.UserEntity;
+import com.developersnest.devnestbackend.auth.entity.UserRole;
+import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.posts.dto.PostBulkRecord;
+import com.developersnest.devnestbackend.posts.dto.PostDetailResponse;
+import com.developersnest.devnestbackend.posts.dto.PostImportResult;
+import com.developersnest.devnestbackend.posts.dto.PostWriteRequest;
+import com.developersnest.devnestbackend.posts.entity.AuthorStatsEntity;
+import com.developersnest.devnestbackend.posts.entity.PostEntity;
+import com.developersnest.devnestbackend.posts.entity.TagStatsEntity;
+import com.developersnest.devnestbackend.posts.repository.AuthorStatsRepository;
+import com.developersnest.devnestbackend.posts.repository.PostRepository;
+import com.developersnest.devnestbackend.posts.repository.TagStatsRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PostBulkServiceTests {
+
+    private static final String AUTHOR = "bulk-author";
+    private static final String NEW_TAG = "bulk-new-tag";
+    private static final LocalDateTime PUBLISHED_AT = LocalDateTime.now().minusDays(3).truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private PostBulkService postBulkService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private TagDictionary tagDictionary;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TagStatsRepository tagStatsRepository;
+
+    @Autowired
+    private AuthorStatsRepository authorStatsRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void exportedPostsImportBackWithDraftsAndCountersIntact() throws IOException {
+        Long authorId = createAuthor();
+        PostDetailResponse taken = postService.createPost(authorId,
+                new PostWriteRequest("bulk taken", "본문", null, null, List.of()));
+
+        PostImportResult firstImport = importLines(
+                record("bulk-draft", AUTHOR, null, 7, 2),
+                record("bulk-live", AUTHOR, PUBLISHED_AT, 3, 1),
+                record(taken.slug(), AUTHOR, PUBLISHED_AT, 0, 0),
+                record("bulk-orphan", "bulk-nobody", PUBLISHED_AT, 0, 0)
+        );
+
+        assertThat(firstImport.imported()).isEqualTo(2);
+        assertThat(firstImport.skipped()).isEqualTo(2);
+        assertThat(firstImport.errors()).containsExactly(
+                "3번째 줄: 이미 사용 중인 슬러그입니다.",
+                "4번째 줄: 작성자를 찾을 수 없습니다."
+        );
+        assertImported(authorId);
+
+        List<PostBulkRecord> exported = exportRecords(Set.of("bulk-draft", "bulk-live"));
+        assertThat(exported).extracting(PostBulkRecord::slug).containsExactly("bulk-draft", "bulk-live");
+        assertThat(exported.get(0).publishedAt()).isNull();
+        assertThat(exported.get(1).publishedAt()).isEqualTo(PUBLISHED_AT);
+        assertThat(exported).allSatisfy(record -> assertThat(record.tags()).containsExactly(NEW_TAG));
+
+        postService.deletePost(postRepository.findBySlug("bulk-draft").orElseThrow().getId(), authorId);
+        postService.deletePost(postRepository.findBySlug("bulk-live").orElseThrow().getId(), authorId);
+        assertThat(tagPostCount()).isZero();
+        assertThat(authorStats(authorId).getPostsCount()).isEqualTo(1);
+
+        PostImportResult secondImport = importLines(exported.toArray(PostBulkRecord[]::new));
+
+        assertThat(secondImport.imported()).isEqualTo(2);
+        assertThat(secondImport.errors()).isEmpty();
+        assertImported(authorId);
+    }
+
+    private void assertImported(Long authorId) {
+        PostEntity draft = postRepository.findBySlug("bulk-draft").orElseThrow();
+        PostEntity live = postRepository.findBySlug("bulk-live").orElseThrow();
+        assertThat(draft.getPublishedAt()).isNull();
+        assertThat(live.getPublishedAt()).isEqualTo(PUBLISHED_AT);
+        assertThat(postRepository.findBySlug("bulk-orphan")).isEmpty();
+
+        assertThat(tagPostCount()).isEqualTo(2);
+        AuthorStatsEntity stats = authorStats(authorId);
+        assertThat(stats.getPostsCount()).isEqualTo(3);
+        assertThat(stats.getViewsCount()).isEqualTo(10);
+        assertThat(stats.getLikesCount()).isEqualTo(3);
+    }
+
+    private long tagPostCount() {
+        Long tagId = tagDictionary.find(NEW_TAG).orElseThrow().id();
+        return tagStatsRepository.findById(tagId).map(TagStatsEntity::getPostCount).orElseThrow();
+    }
+
+    private AuthorStatsEntity authorStats(Long authorId) {
+        return authorStatsRepository.findById(authorId).orElseThrow();
+    }
+
+    private PostImportResult importLines(PostBulkRecord... records) throws IOException {
+        StringBuilder ndjson = new StringBuilder();
+        for (PostBulkRecord record : records) {
+            ndjson.append(objectMapper.writeValueAsString(record)).append('\n');
+        }
+        return postBulkService.importPosts(new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private List<PostBulkRecord> exportRecords(Set<String> slugs) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        postBulkService.exportPosts(output);
+        List<PostBulkRecord> records = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            PostBulkRecord record = objectMapper.readValue(line, PostBulkRecord.class);
+            if (slugs.contains(record.slug())) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private static PostBulkRecord record(String slug, String author, LocalDateTime publishedAt, long views, long likes) {
+        return new PostBulkRecord(slug, "제목 " + slug, null, null, false, author, "본문 " + slug, List.of(NEW_TAG),
+                views, likes, publishedAt, null, null);
+    }
+
+    private Long createAuthor() {
+        UserEntity author = new UserEntity();
+        author.setUsername(AUTHOR);
+        author.setEmail(AUTHOR + "@devnest.dev");
+        author.setPasswordHash("hash");
+        author.setDisplayName(AUTHOR);
+        author.setRole(UserRole.MEMBER);
+        return userRepository.save(author).getId();
+    }
+}
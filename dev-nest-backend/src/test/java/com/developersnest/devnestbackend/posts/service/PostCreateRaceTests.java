@@ -0,0 +1,84 @@
+package com.developersnest.devnestbackend.posts.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.developersnest.devnestbackend.auth.entity.UserEntity;
+import com.developersnest.devnestbackend.auth.entity.UserRole;
+import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.posts.dto.PostDetailResponse;
+import com.developersnest.devnestbackend.posts.dto.PostWriteRequest;
+import com.developersnest.devnestbackend.posts.entity.TagStatsEntity;
+import com.developersnest.devnestbackend.posts.repository.TagStatsRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PostCreateRaceTests {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private TagDictionary tagDictionary;
+
+    @Autowired
+    private TagStatsRepository tagStatsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void concurrentPostsCreatingTheSameNewTagAllSucceed() throws Exception {
+        int threads = 4;
+        List<Long> authorIds = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            authorIds.add(createAuthor("tag-race-" + i));
+        }
+
+        List<PostDetailResponse> created = new ArrayList<>();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<PostDetailResponse>> creates = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                Long authorId = authorIds.get(i);
+                int index = i;
+                creates.add(pool.submit(() -> {
+                    start.await();
+                    return postService.createPost(authorId,
+                            new PostWriteRequest("tag race " + index, "본문", null, null, List.of("race-new-tag")));
+                }));
+            }
+            start.countDown();
+            for (Future<PostDetailResponse> create : creates) {
+                created.add(create.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(created).allSatisfy(post -> assertThat(post.tags()).containsExactly("race-new-tag"));
+        Long tagId = tagDictionary.find("race-new-tag").orElseThrow().id();
+        assertThat(tagStatsRepository.findById(tagId).map(TagStatsEntity::getPostCount)).contains((long) threads);
+    }
+
+    private Long createAuthor(String username) {
+        UserEntity author = new UserEntity();
+        author.setUsername(username);
+        author.setEmail(username + "@devnest.dev");
+        author.setPasswordHash("hash");
+        author.setDisplayName(username);
+        author.setRole(UserRole.MEMBER);
+        return userRepository.save(author).getId();
+    }
+}
@@ -0,0 +1,77 @@
+package com.developersnest.devnestbackend.posts.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.developersnest.devnestbackend.auth.entity.UserEntity;
+import com.developersnest.devnestbackend.auth.entity.UserRole;
+import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.posts.dto.PostListResponse;
+import com.developersnest.devnestbackend.posts.dto.PostSummaryResponse;
+import com.developersnest.devnestbackend.posts.dto.PostWriteRequest;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PostCursorPagingTests {
+
+    private static final String TAG = "cursor-paging";
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void cursorPagesWalkEveryPostOnceAcrossTiedTimestamps() {
+        Long authorId = createAuthor();
+        List<Long> postIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            postIds.add(postService.createPost(authorId,
+                    new PostWriteRequest("cursor paging " + i, "본문", null, null, List.of(TAG))).id());
+        }
+        // Ties on the sort key leave the order to the id, which is where a wrong keyset predicate shows.
+        LocalDateTime tied = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        postIds.forEach(postId -> jdbcTemplate.update(
+                "UPDATE posts SET published_at = ?, updated_at = ? WHERE post_id = ?", tied, tied, postId));
+        List<Long> expected = postIds.stream().sorted(Comparator.reverseOrder()).toList();
+
+        assertThat(walk(cursor -> postService.getPostsByTag(TAG, cursor, 2, false))).isEqualTo(expected);
+        assertThat(walk(cursor -> postService.getPostsByAuthorCursor(authorId, cursor, 2, false))).isEqualTo(expected);
+    }
+
+    private static List<Long> walk(Function<String, PostListResponse> pages) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            PostListResponse page = pages.apply(cursor);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(2);
+            page.items().stream().map(PostSummaryResponse::id).forEach(ids::add);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private Long createAuthor() {
+        UserEntity author = new UserEntity();
+        author.setUsername("cursor-author");
+        author.setEmail("cursor-author@devnest.dev");
+        author.setPasswordHash("hash");
+        author.setDisplayName("cursor-author");
+        author.setRole(UserRole.MEMBER);
+        return userRepository.save(author).getId();
+    }
+}
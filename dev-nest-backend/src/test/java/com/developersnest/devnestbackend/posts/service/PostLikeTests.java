@@ -0,0 +1,160 @@
+package com.developersnest.devnestbackend.posts.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.developersnest.devnestbackend.auth.entity.UserEntity;
+import com.developersnest.devnestbackend.auth.entity.UserRole;
+import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.posts.dto.PostEngagementResponse;
+import com.developersnest.devnestbackend.posts.dto.PostWriteRequest;
+import com.developersnest.devnestbackend.posts.entity.PostMetricsEntity;
+import com.developersnest.devnestbackend.posts.event.PostLikedEvent;
+import com.developersnest.devnestbackend.posts.repository.AuthorStatsRepository;
+import com.developersnest.devnestbackend.posts.repository.PostLikeRepository;
+import com.developersnest.devnestbackend.posts.repository.PostMetricsRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class PostLikeTests {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostMetricsRepository postMetricsRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private AuthorStatsRepository authorStatsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void repeatedLikesAndUnlikesChangeNothingTwice() {
+        Long authorId = createUser("like-twice-author");
+        Long readerId = createUser("like-twice-reader");
+        Long postId = createPost(authorId, "like twice");
+
+        PostEngagementResponse firstLike = postService.likePost(postId, readerId);
+        PostEngagementResponse secondLike = postService.likePost(postId, readerId);
+
+        assertThat(firstLike.likes()).isEqualTo(1);
+        assertThat(secondLike.likes()).isEqualTo(1);
+        assertThat(secondLike.liked()).isTrue();
+        assertConsistent(postId, authorId, 1);
+
+        PostEngagementResponse firstUnlike = postService.unlikePost(postId, readerId);
+        PostEngagementResponse secondUnlike = postService.unlikePost(postId, readerId);
+
+        assertThat(firstUnlike.likes()).isZero();
+        assertThat(secondUnlike.likes()).isZero();
+        assertThat(secondUnlike.liked()).isFalse();
+        assertConsistent(postId, authorId, 0);
+        assertThat(events.stream(PostLikedEvent.class).filter(event -> event.postId().equals(postId)))
+                .extracting(PostLikedEvent::delta)
+                .containsExactly(1, -1);
+    }
+
+    @Test
+    void unlikeThatMovesNoCounterPublishesNoEvent() {
+        Long authorId = createUser("like-drift-author");
+        Long readerId = createUser("like-drift-reader");
+        Long postId = createPost(authorId, "like drift");
+        postService.likePost(postId, readerId);
+        // A counter that drifted to zero is not decremented, so nothing may react to the removal either.
+        jdbcTemplate.update("UPDATE post_metrics SET likes_count = 0 WHERE post_id = ?", postId);
+
+        postService.unlikePost(postId, readerId);
+
+        assertThat(events.stream(PostLikedEvent.class).filter(event -> event.postId().equals(postId)))
+                .extracting(PostLikedEvent::delta)
+                .containsExactly(1);
+    }
+
+    @Test
+    void concurrentTogglesKeepCountersInStep() throws Exception {
+        Long authorId = createUser("like-race-author");
+        Long postId = createPost(authorId, "like race");
+        int readers = 6;
+        List<Long> readerIds = new ArrayList<>();
+        for (int i = 0; i < readers; i++) {
+            readerIds.add(createUser("like-race-reader-" + i));
+        }
+
+        // Two threads per reader, toggling against each other; odd readers like once more afterwards.
+        ExecutorService pool = Executors.newFixedThreadPool(readers * 2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < readers * 2; i++) {
+                Long readerId = readerIds.get(i / 2);
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    for (int round = 0; round < 15; round++) {
+                        postService.likePost(postId, readerId);
+                        postService.unlikePost(postId, readerId);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        for (int i = 1; i < readers; i += 2) {
+            postService.likePost(postId, readerIds.get(i));
+        }
+
+        assertConsistent(postId, authorId, readers / 2);
+    }
+
+    private void assertConsistent(Long postId, Long authorId, long expectedLikes) {
+        long likeRows = postLikeRepository.countByPost_Id(postId);
+        long likesCount = postMetricsRepository.findById(postId).map(PostMetricsEntity::getLikesCount).orElse(0L);
+        long authorLikes = authorStatsRepository.findById(authorId).orElseThrow().getLikesCount();
+        assertThat(likeRows).isEqualTo(expectedLikes);
+        assertThat(likesCount).isEqualTo(expectedLikes);
+        assertThat(authorLikes).isEqualTo(expectedLikes);
+    }
+
+    private Long createPost(Long authorId, String title) {
+        return postService.createPost(authorId, new PostWriteRequest(title, "본문", null, null, List.of())).id();
+    }
+
+    private Long createUser(String username) {
+        UserEntity user = new UserEntity();
+        user.setUsername(username);
+        user.setEmail(username + "@devnest.dev");
+        user.setPasswordHash("hash");
+        user.setDisplayName(username);
+        user.setRole(UserRole.MEMBER);
+        return userRepository.save(user).getId();
+    }
+}
@@ -0,0 +1,76 @@
+package com.developersnest.devnestbackend.posts.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.developersnest.devnestbackend.auth.entity.UserEntity;
+import com.developersnest.devnestbackend.auth.entity.UserRole;
+import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.posts.dto.PostListResponse;
+import com.developersnest.devnestbackend.posts.dto.PostWriteRequest;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostListingQueryCountTests {
+
+    private static final String KEYWORD = "querycount";
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void searchListingRunsFixedStatementCountRegardlessOfPageSize() {
+        UserEntity author = new UserEntity();
+        author.setUsername("querycount-author");
+        author.setEmail("querycount@devnest.dev");
+        author.setPasswordHash("hash");
+        author.setDisplayName("Query Count");
+        author.setRole(UserRole.MEMBER);
+        Long authorId = userRepository.save(author).getId();
+
+        for (int i = 0; i < 30; i++) {
+            postService.createPost(authorId, new PostWriteRequest(
+                    KEYWORD + " post " + i,
+                    "본문 " + i,
+                    "요약 " + i,
+                    null,
+                    List.of("java", "spring", "tag-" + i)
+            ));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        PostListResponse smallPage = postService.getPosts(0, 5, KEYWORD);
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        PostListResponse largePage = postService.getPosts(0, 30, KEYWORD);
+        long largePageStatements = statistics.getPrepareStatementCount();
+
+        assertThat(smallPage.items()).hasSize(5);
+        assertThat(largePage.items()).hasSize(30);
+        assertThat(largePage.items()).allSatisfy(item -> {
+            assertThat(item.authorName()).isEqualTo("Query Count");
+            assertThat(item.tags()).hasSize(3);
+        });
+        assertThat(largePageStatements)
+                .isEqualTo(smallPageStatements)
+                .isLessThanOrEqualTo(3);
+    }
+}
@@ -0,0 +1,71 @@
+package com.developersnest.devnestbackend.posts.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.developersnest.devnestbackend.auth.entity.UserEntity;
+import com.developersnest.devnestbackend.auth.entity.UserRole;
+import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.posts.dto.PostDetailResponse;
+import com.developersnest.devnestbackend.posts.dto.PostWriteRequest;
+import com.developersnest.devnestbackend.posts.repository.PostRepository;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PostSlugTests {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void suffixLookupSkipsSlugsThatOnlyShareThePrefix() {
+        Long authorId = createAuthor("slug-narrow-author");
+        assertThat(create(authorId, "slug narrow").slug()).isEqualTo("slug-narrow");
+        assertThat(create(authorId, "slug narrow tips").slug()).isEqualTo("slug-narrow-tips");
+        assertThat(create(authorId, "slug narrow 2024 recap").slug()).isEqualTo("slug-narrow-2024-recap");
+        assertThat(create(authorId, "slug narrow").slug()).isEqualTo("slug-narrow-1");
+
+        assertThat(postRepository.findSlugsWithBase("slug-narrow", "slug-narrow-%"))
+                .containsExactlyInAnyOrder("slug-narrow", "slug-narrow-1", "slug-narrow-2024-recap");
+        assertThat(create(authorId, "slug narrow").slug()).isEqualTo("slug-narrow-2");
+    }
+
+    @Test
+    void editKeepsItsOwnSlugAndIgnoresItselfWhenSuffixing() {
+        Long authorId = createAuthor("slug-edit-author");
+        PostDetailResponse first = create(authorId, "slug edit");
+        PostDetailResponse second = create(authorId, "slug edit");
+
+        assertThat(second.slug()).isEqualTo("slug-edit-1");
+        assertThat(postService.updatePost(second.id(), authorId, request("slug edit")).slug()).isEqualTo("slug-edit-1");
+        assertThat(postService.updatePost(first.id(), authorId, request("slug edit")).slug()).isEqualTo("slug-edit");
+    }
+
+    private PostDetailResponse create(Long authorId, String title) {
+        return postService.createPost(authorId, request(title));
+    }
+
+    private static PostWriteRequest request(String title) {
+        return new PostWriteRequest(title, "본문", null, null, List.of());
+    }
+
+    private Long createAuthor(String username) {
+        UserEntity author = new UserEntity();
+        author.setUsername(username);
+        author.setEmail(username + "@devnest.dev");
+        author.setPasswordHash("hash");
+        author.setDisplayName(username);
+        author.setRole(UserRole.MEMBER);
+        return userRepository.save(author).getId();
+    }
+}
@@ -0,0 +1,153 @@
+package com.developersnest.devnestbackend.posts.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.developersnest.devnestbackend.auth.entity.UserEntity;
+import com.developersnest.devnestbackend.auth.entity.UserRole;
+import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.posts.dto.PostWriteRequest;
+import com.developersnest.devnestbackend.posts.entity.AuthorStatsEntity;
+import com.developersnest.devnestbackend.posts.repository.AuthorStatsRepository;
+import com.developersnest.devnestbackend.posts.repository.PostMetricsRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+// Only the flushes the tests trigger themselves.
+@TestPropertySource(properties = "devnest.posts.view-flush-interval-ms=3600000")
+class PostViewCounterTests {
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostMetricsRepository postMetricsRepository;
+
+    @Autowired
+    private AuthorStatsRepository authorStatsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void concurrentViewsAreFlushedExactlyOnce() throws Exception {
+        Long authorId = createAuthor("views-concurrent");
+        List<Long> postIds = createPosts(authorId, 3);
+        int threads = 8;
+        int viewsPerThread = 600;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < viewsPerThread; i++) {
+                        postViewCounter.record(postIds.get(i % postIds.size()));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            // Flush while views are still arriving, then once more for the rest.
+            postViewCounter.flush();
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+            postViewCounter.flush();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long perPost = (long) threads * viewsPerThread / postIds.size();
+        for (Long postId : postIds) {
+            assertThat(postMetricsRepository.findViewsCount(postId)).contains(perPost);
+            assertThat(postViewCounter.currentViews(postId, perPost)).isEqualTo(perPost);
+        }
+        AuthorStatsEntity stats = authorStatsRepository.findById(authorId).orElseThrow();
+        assertThat(stats.getViewsCount()).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    @Test
+    void currentViewsStaysExactWhileFlushLands() throws Exception {
+        Long authorId = createAuthor("views-in-flight");
+        List<Long> postIds = createPosts(authorId, 40);
+        for (int i = 0; i < postIds.size(); i++) {
+            for (int view = 0; view <= i; view++) {
+                postViewCounter.record(postIds.get(i));
+            }
+        }
+
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(postViewCounter::flush);
+        int rounds = 0;
+        do {
+            assertExactViews(postIds);
+            rounds++;
+        } while (!flush.isDone());
+        flush.get(30, TimeUnit.SECONDS);
+        assertExactViews(postIds);
+        assertThat(rounds).isPositive();
+    }
+
+    @Test
+    void readerThatReadCountBeforeFlushCommittedIsNotShortchanged() {
+        Long authorId = createAuthor("views-stale-reader");
+        Long postId = createPosts(authorId, 1).get(0);
+        for (int i = 0; i < 5; i++) {
+            postViewCounter.record(postId);
+        }
+
+        long readBeforeFlush = postMetricsRepository.findViewsCount(postId).orElseThrow();
+        postViewCounter.flush();
+        long readAfterFlush = postMetricsRepository.findViewsCount(postId).orElseThrow();
+
+        assertThat(readBeforeFlush).isZero();
+        assertThat(readAfterFlush).isEqualTo(5);
+        assertThat(postViewCounter.currentViews(postId, readBeforeFlush)).isEqualTo(5);
+        assertThat(postViewCounter.currentViews(postId, readAfterFlush)).isEqualTo(5);
+    }
+
+    // Post i of the list was viewed i + 1 times.
+    private void assertExactViews(List<Long> postIds) {
+        for (int i = 0; i < postIds.size(); i++) {
+            Long postId = postIds.get(i);
+            long persisted = postMetricsRepository.findViewsCount(postId).orElseThrow();
+            assertThat(postViewCounter.currentViews(postId, persisted)).isEqualTo(i + 1);
+        }
+    }
+
+    private List<Long> createPosts(Long authorId, int count) {
+        List<Long> postIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            postIds.add(postService.createPost(authorId,
+                    new PostWriteRequest("views " + authorId + " " + i, "본문", null, null, List.of())).id());
+        }
+        return postIds;
+    }
+
+    private Long createAuthor(String username) {
+        UserEntity author = new UserEntity();
+        author.setUsername(username);
+        author.setEmail(username + "@devnest.dev");
+        author.setPasswordHash("hash");
+        author.setDisplayName(username);
+        author.setRole(UserRole.MEMBER);
+        return userRepository.save(author).getId();
+    }
+}
@@ -0,0 +1,95 @@
+package com.developersnest.devnestbackend.posts.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.developersnest.devnestbackend.auth.entity.UserEntity;
+import com.developersnest.devnestbackend.auth.entity.UserRole;
+import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.posts.dto.PostDetailResponse;
+import com.developersnest.devnestbackend.posts.dto.PostWriteRequest;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session.events.auto="
+                + "com.developersnest.devnestbackend.posts.service.PostWriteStatementCountTests$BatchCounter"
+})
+class PostWriteStatementCountTests {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void creatingPostWithNewTagsBatchesTagInserts() {
+        UserEntity author = new UserEntity();
+        author.setUsername("batching-author");
+        author.setEmail("batching@devnest.dev");
+        author.setPasswordHash("hash");
+        author.setDisplayName("Batching");
+        author.setRole(UserRole.MEMBER);
+        Long authorId = userRepository.save(author).getId();
+        // Warm up id blocks and the author stats row so both measured writes take the same path.
+        postService.createPost(authorId, request("warmup", 1));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        BatchCounter.BATCHES.set(0);
+        PostDetailResponse fewTags = postService.createPost(authorId, request("few", 2));
+        long fewTagStatements = statistics.getPrepareStatementCount();
+        long fewTagBatches = BatchCounter.BATCHES.get();
+
+        statistics.clear();
+        BatchCounter.BATCHES.set(0);
+        PostDetailResponse manyTags = postService.createPost(authorId, request("many", 10));
+        long manyTagStatements = statistics.getPrepareStatementCount();
+        long manyTagBatches = BatchCounter.BATCHES.get();
+
+        assertThat(fewTags.tags()).hasSize(2);
+        assertThat(manyTags.tags()).hasSize(10);
+        // A sequence call may fall on a block boundary in one of the two writes.
+        assertThat(manyTagStatements).isLessThanOrEqualTo(fewTagStatements + 1);
+        // The inserts went out as JDBC batches, and eight more tags did not add any.
+        assertThat(manyTagBatches).isPositive();
+        assertThat(manyTagBatches).isEqualTo(fewTagBatches);
+    }
+
+    private static PostWriteRequest request(String name, int tagCount) {
+        List<String> tags = IntStream.range(0, tagCount)
+                .mapToObj(i -> "batch-" + name + "-" + i)
+                .toList();
+        return new PostWriteRequest("batching " + name, "본문 " + name, "요약 " + name, null, tags);
+    }
+
+    /**
+     * Counts JDBC batch executions across all sessions.
+     */
+    public static class BatchCounter extends BaseSessionEventListener {
+
+        static final AtomicLong BATCHES = new AtomicLong();
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            BATCHES.incrementAndGet();
+        }
+    }
+}
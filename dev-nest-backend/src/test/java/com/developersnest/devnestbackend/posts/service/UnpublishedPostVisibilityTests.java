@@ -0,0 +1,102 @@
+package com.developersnest.devnestbackend.posts.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.developersnest.devnestbackend.auth.entity.UserEntity;
+import com.developersnest.devnestbackend.auth.entity.UserRole;
+import com.developersnest.devnestbackend.auth.repository.UserRepository;
+import com.developersnest.devnestbackend.posts.dto.PostDetailResponse;
+import com.developersnest.devnestbackend.posts.dto.PostListResponse;
+import com.developersnest.devnestbackend.posts.dto.PostSummaryResponse;
+import com.developersnest.devnestbackend.posts.dto.PostWriteRequest;
+import com.developersnest.devnestbackend.posts.repository.PostRepository;
+import com.developersnest.devnestbackend.posts.search.PostSearchIndex;
+import com.developersnest.devnestbackend.posts.trending.TrendingEngine;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UnpublishedPostVisibilityTests {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private TrendingEngine trendingEngine;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void rankedSearchDoesNotReturnUnpublishedPosts() {
+        Long authorId = createAuthor("visibility-search");
+        await().atMost(Duration.ofSeconds(10)).until(postSearchIndex::isReady);
+
+        PostDetailResponse published = postService.createPost(authorId, request("mossy lantern"));
+        PostDetailResponse edited = postService.createPost(authorId, request("amber quokka"));
+        PostDetailResponse stale = postService.createPost(authorId, request("velvet narwhal"));
+        unpublish(edited.id());
+        unpublish(stale.id());
+        // The edit carries the unpublished state to the index; the other draft is still indexed.
+        postService.updatePost(edited.id(), authorId, request("amber quokka"));
+
+        PostListResponse editedHits = postService.searchRanked(0, 10, "amber quokka");
+        PostListResponse staleHits = postService.searchRanked(0, 10, "velvet narwhal");
+        PostListResponse publishedHits = postService.searchRanked(0, 10, "mossy lantern");
+
+        assertThat(editedHits.items()).isEmpty();
+        assertThat(editedHits.totalElements()).isZero();
+        assertThat(staleHits.items()).isEmpty();
+        assertThat(publishedHits.items()).extracting(PostSummaryResponse::id).containsExactly(published.id());
+    }
+
+    @Test
+    void trendingSkipsUnpublishedPostsAndStillFillsTheLimit() {
+        Long authorId = createAuthor("visibility-trending");
+        PostDetailResponse published = postService.createPost(authorId, request("trending published"));
+        PostDetailResponse draft = postService.createPost(authorId, request("trending draft"));
+        unpublish(draft.id());
+        // Far above anything other tests record, so these two lead every window.
+        trendingEngine.record(draft.id(), 2_000_000);
+        trendingEngine.record(published.id(), 1_000_000);
+
+        List<PostSummaryResponse> trending = postService.getTrending("day", 1);
+
+        assertThat(trending).extracting(PostSummaryResponse::id).containsExactly(published.id());
+    }
+
+    private void unpublish(Long postId) {
+        transactionTemplate.executeWithoutResult(status ->
+                postRepository.findById(postId).orElseThrow().setPublishedAt(null));
+    }
+
+    private Long createAuthor(String username) {
+        UserEntity author = new UserEntity();
+        author.setUsername(username);
+        author.setEmail(username + "@devnest.dev");
+        author.setPasswordHash("hash");
+        author.setDisplayName(username);
+        author.setRole(UserRole.MEMBER);
+        return userRepository.save(author).getId();
+    }
+
+    private static PostWriteRequest request(String title) {
+        return new PostWriteRequest(title, "본문 " + title, "요약 " + title, null, List.of());
+    }
+}
@@ -1,6 +1,10 @@
 import { useCallback, useEffect, useMemo, useState } from 'react'
-import { commentsApi, type Comment } from '../../services/commentsApi'
-import { escapeUnsafeHtml, renderMarkdown } from '../../utils/markdown'
+import {
+  COMMENT_REACTIONS,
+  commentsApi,
+  type Comment,
+} from '../../services/commentsApi'
+import { renderMarkdown } from '../../utils/markdown'
 import { formatDateTime } from '../../utils/date'
 import { useNotifications } from '../../contexts/NotificationContext'
 
@@ -14,6 +18,21 @@ type CommentsSectionProps = {
 
 const AUTH_STORAGE_KEY = 'devnest.auth'
 
+const updateComment = (
+  items: Comment[],
+  commentId: number,
+  update: (comment: Comment) => Comment,
+): Comment[] =>
+  items.map((item) => {
+    if (item.id === commentId) {
+      return update(item)
+    }
+    if (item.replies.length === 0) {
+      return item
+    }
+    return { ...item, replies: updateComment(item.replies, commentId, update) }
+  })
+
 const CommentsSection = ({
   postId,
   postSlug,
@@ -22,6 +41,11 @@ const CommentsSection = ({
   onRequireAuth,
 }: CommentsSectionProps) => {
   const [comments, setComments] = useState<Comment[]>([])
+  const [nextCursor, setNextCursor] = useState<string | null>(null)
+  const [totalCount, setTotalCount] = useState(0)
+  const [isLoadingMore, setIsLoadingMore] = useState(false)
+  const [replyCursors, setReplyCursors] = useState<Record<number, string | null>>({})
+  const [expandingId, setExpandingId] = useState<number | null>(null)
   const [isLoading, setIsLoading] = useState(true)
   const [isRefreshing, setIsRefreshing] = useState(false)
   const [error, setError] = useState<string | null>(null)
@@ -94,12 +118,12 @@ const CommentsSection = ({
     if (!comment) {
       return ''
     }
+    if (comment.bodyHtml && comment.bodyHtml.trim().length > 0) {
+      return comment.bodyHtml
+    }
     if (comment.bodyMarkdown && comment.bodyMarkdown.trim().length > 0) {
       return renderMarkdown(comment.bodyMarkdown)
     }
-    if (comment.bodyHtml && comment.bodyHtml.trim().length > 0) {
-      return escapeUnsafeHtml(comment.bodyHtml)
-    }
     return ''
   }, [])
 
@@ -112,8 +136,11 @@ const CommentsSection = ({
       }
       setError(null)
       try {
-        const result = await commentsApi.fetchComments(postId, resolvedAccessToken)
-        setComments(result)
+        const page = await commentsApi.fetchComments(postId, resolvedAccessToken)
+        setComments(page.items)
+        setNextCursor(page.nextCursor)
+        setTotalCount(page.totalCount ?? 0)
+        setReplyCursors({})
       } catch (fetchError) {
         const message =
           fetchError instanceof Error
@@ -121,6 +148,8 @@ const CommentsSection = ({
             : '댓글을 불러오지 못했습니다.'
         if (message.includes('로그인') || message.toLowerCase().includes('authentication')) {
           setComments([])
+          setNextCursor(null)
+          setTotalCount(0)
           setError(null)
         } else {
           setError(message)
@@ -140,14 +169,56 @@ const CommentsSection = ({
     loadComments(true)
   }, [loadComments])
 
-  const commentCount = useMemo(() => {
-    const countVisible = (items: Comment[]): number =>
-      items.reduce((acc, item) => {
-        const self = item.deleted ? 0 : 1
-        return acc + self + countVisible(item.replies)
-      }, 0)
-    return countVisible(comments)
-  }, [comments])
+  const handleLoadMore = async () => {
+    if (!nextCursor || isLoadingMore) {
+      return
+    }
+    setIsLoadingMore(true)
+    try {
+      const page = await commentsApi.fetchComments(postId, resolvedAccessToken, nextCursor)
+      setComments((prev) => [...prev, ...page.items])
+      setNextCursor(page.nextCursor)
+    } catch (fetchError) {
+      const message =
+        fetchError instanceof Error
+          ? fetchError.message
+          : '댓글을 불러오지 못했습니다.'
+      setError(message)
+    } finally {
+      setIsLoadingMore(false)
+    }
+  }
+
+  const handleLoadReplies = async (comment: Comment) => {
+    if (expandingId !== null) {
+      return
+    }
+    // Only the preview replies are loaded until the first expand, which restarts from the oldest reply.
+    const expanded = comment.id in replyCursors
+    setExpandingId(comment.id)
+    try {
+      const page = await commentsApi.fetchReplies(
+        comment.id,
+        resolvedAccessToken,
+        expanded ? replyCursors[comment.id] : null,
+      )
+      setComments((prev) =>
+        updateComment(prev, comment.id, (item) => ({
+          ...item,
+          replies: expanded ? [...item.replies, ...page.items] : page.items,
+        })),
+      )
+      setReplyCursors((prev) => ({ ...prev, [comment.id]: page.nextCursor }))
+    } catch (fetchError) {
+      const message =
+        fetchError instanceof Error
+          ? fetchError.message
+          : '답글을 불러오지 못했습니다.'
+      setError(message)
+    } finally {
+      setExpandingId(null)
+    }
+  }
 
   const handleRequireAuth = () => {
     onRequireAuth()
@@ -264,6 +335,29 @@ const CommentsSection = ({
     }
   }
 
+  const handleToggleReaction = async (comment: Comment, index: number) => {
+    if (!resolvedAccessToken) {
+      handleRequireAuth()
+      return
+    }
+    const { code } = COMMENT_REACTIONS[index]
+    const active = (comment.myReactions & (1 << index)) !== 0
+    try {
+      const state = active
+        ? await commentsApi.removeReaction(comment.id, code, resolvedAccessToken)
+        : await commentsApi.addReaction(comment.id, code, resolvedAccessToken)
+      setComments((prev) =>
+        updateComment(prev, comment.id, (item) => ({ ...item, ...state })),
+      )
+    } catch (toggleError) {
+      const message =
+        toggleError instanceof Error
+          ? toggleError.message
+          : '요청을 처리하지 못했습니다.'
+      setError(message)
+    }
+  }
+
   const handleDeleteComment = async (comment: Comment) => {
     if (!resolvedAccessToken) {
       handleRequireAuth()
@@ -347,6 +441,32 @@ const CommentsSection = ({
                 </svg>
                 <span>좋아요 {comment.likeCount}</span>
               </button>
+              {COMMENT_REACTIONS.map((reaction, index) => {
+                if (index === 0) {
+                  return null
+                }
+                const count = comment.reactions?.[index] ?? 0
+                const active = (comment.myReactions & (1 << index)) !== 0
+                if (comment.deleted && count === 0) {
+                  return null
+                }
+                return (
+                  <button
+                    key={reaction.code}
+                    type="button"
+                    onClick={() => handleToggleReaction(comment, index)}
+                    disabled={comment.deleted}
+                    className={`inline-flex items-center gap-1 rounded-full border px-2 py-1 transition-colors ${
+                      active
+                        ? 'border-emerald-400/60 bg-emerald-500/10 text-emerald-200'
+                        : 'border-slate-700 hover:border-emerald-400'
+                    } ${comment.deleted ? 'pointer-events-none opacity-50' : ''}`}
+                  >
+                    <span>{reaction.emoji}</span>
+                    {count > 0 && <span>{count}</span>}
+                  </button>
+                )
+              })}
               {!comment.deleted && (
                 <button
                   type="button"
@@ -396,6 +516,18 @@ const CommentsSection = ({
               {renderComments(comment.replies, depth + 1)}
             </ul>
           )}
+          {comment.replyCount > comment.replies.length && (
+            <button
+              type="button"
+              onClick={() => handleLoadReplies(comment)}
+              disabled={expandingId !== null}
+              className="ml-4 text-xs font-medium text-emerald-300 transition-colors hover:text-emerald-200 disabled:opacity-60 sm:ml-6"
+            >
+              {expandingId === comment.id
+                ? '불러오는 중...'
+                : `답글 더 보기 (${(comment.replyCount - comment.replies.length).toLocaleString()})`}
+            </button>
+          )}
         </li>
       )
     })
@@ -407,7 +539,7 @@ const CommentsSection = ({
         <div>
           <h2 className="text-lg font-semibold text-white">댓글</h2>
           <p className="text-xs text-slate-400">
-            총 {commentCount.toLocaleString()}개의 댓글이 있습니다.
+            총 {totalCount.toLocaleString()}개의 댓글이 있습니다.
           </p>
         </div>
         {isRefreshing && (
@@ -463,7 +595,21 @@ const CommentsSection = ({
           첫 댓글의 주인공이 되어보세요.
         </p>
       ) : (
-        <ul className="space-y-6">{renderComments(comments)}</ul>
+        <div className="space-y-6">
+          <ul className="space-y-6">{renderComments(comments)}</ul>
+          {nextCursor && (
+            <div className="flex justify-center">
+              <button
+                type="button"
+                onClick={handleLoadMore}
+                disabled={isLoadingMore}
+                className="rounded-md border border-slate-700 px-4 py-2 text-sm text-slate-300 transition-colors hover:border-emerald-400 hover:text-emerald-200 disabled:opacity-60"
+              >
+                {isLoadingMore ? '불러오는 중...' : '댓글 더 보기'}
+              </button>
+            </div>
+          )}
+        </div>
       )}
     </section>
   )
@@ -83,6 +83,9 @@ const PostListSection = ({ posts, isLoading, error, renderSummary, hasMore, onLo
                 <span className="inline-flex items-center gap-1 rounded-full border border-slate-700 px-3 py-1">
                   좋아요 {post.likes.toLocaleString()}
                 </span>
+                <span className="inline-flex items-center gap-1 rounded-full border border-slate-700 px-3 py-1">
+                  댓글 {(post.commentsCount ?? 0).toLocaleString()}
+                </span>
                 <Link
                   to={`/posts/${post.slug}/edit`}
                   className="ml-auto inline-flex items-center gap-1 rounded-lg border border-slate-700 px-3 py-1 text-xs text-slate-300 transition-colors hover:border-emerald-400 hover:text-emerald-200"
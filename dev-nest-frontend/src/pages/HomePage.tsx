@@ -1,16 +1,20 @@
 import { useEffect, useMemo, useState } from 'react'
 import { Link } from 'react-router-dom'
 import ViewContainer from '../components/ViewContainer'
-import { postsApi, type PostSummary } from '../services/postsApi'
+import { postsApi, type PostSummary, type TagSummary } from '../services/postsApi'
 import { formatDate } from '../utils/date'
 
 const HomePage = () => {
   const [query, setQuery] = useState('')
+  const [activeTag, setActiveTag] = useState<string | null>(null)
+  const [popularTags, setPopularTags] = useState<TagSummary[]>([])
+  const [trendingPosts, setTrendingPosts] = useState<PostSummary[]>([])
   const [latestPosts, setLatestPosts] = useState<PostSummary[]>([])
   const [isLoadingLatest, setIsLoadingLatest] = useState(true)
   const [latestError, setLatestError] = useState<string | null>(null)
   const [searchResults, setSearchResults] = useState<PostSummary[]>([])
   const [searchPage, setSearchPage] = useState(0)
+  const [searchCursor, setSearchCursor] = useState<string | null>(null)
   const [searchHasMore, setSearchHasMore] = useState(false)
   const [searchLoading, setSearchLoading] = useState(false)
   const [searchError, setSearchError] = useState<string | null>(null)
@@ -20,9 +24,13 @@ const HomePage = () => {
     ;(async () => {
       try {
         setIsLoadingLatest(true)
-        const latest = await postsApi.fetchLatest(10)
+        const [latest, trending] = await Promise.all([
+          postsApi.fetchLatest(10),
+          postsApi.fetchTrending('week', 10).catch(() => [] as PostSummary[]),
+        ])
         if (mounted) {
           setLatestPosts(latest)
+          setTrendingPosts(trending)
         }
       } catch (fetchError) {
         if (mounted) {
@@ -44,12 +52,32 @@ const HomePage = () => {
     }
   }, [])
 
+  useEffect(() => {
+    let mounted = true
+    postsApi
+      .fetchTags(12)
+      .then((tags) => {
+        if (mounted) {
+          setPopularTags(tags)
+        }
+      })
+      .catch(() => {
+        if (mounted) {
+          setPopularTags([])
+        }
+      })
+    return () => {
+      mounted = false
+    }
+  }, [])
+
   const trimmedQuery = query.trim()
 
   useEffect(() => {
-    if (!trimmedQuery) {
+    if (!trimmedQuery && !activeTag) {
       setSearchResults([])
       setSearchPage(0)
+      setSearchCursor(null)
       setSearchHasMore(false)
       setSearchError(null)
       return
@@ -59,13 +87,18 @@ const HomePage = () => {
     setSearchLoading(true)
     setSearchError(null)
 
-    postsApi
-      .fetchList({ keyword: trimmedQuery, page: 0, size: 10 })
+    const request = activeTag
+      ? postsApi.fetchList({ tag: activeTag, size: 10 })
+      : postsApi.fetchList({ keyword: trimmedQuery, page: 0, size: 10 })
+    request
       .then((response) => {
         if (cancelled) return
         setSearchResults(response.items)
         setSearchPage(1)
-        setSearchHasMore(response.page + 1 < response.totalPages)
+        setSearchCursor(response.nextCursor)
+        setSearchHasMore(
+          activeTag ? response.nextCursor !== null : response.page + 1 < response.totalPages,
+        )
       })
       .catch((fetchError: unknown) => {
         if (cancelled) return
@@ -82,14 +115,25 @@ const HomePage = () => {
     return () => {
       cancelled = true
     }
-  }, [trimmedQuery])
+  }, [trimmedQuery, activeTag])
 
   const handleLoadMoreSearch = async () => {
-    if (!trimmedQuery || searchLoading || !searchHasMore) {
+    if ((!trimmedQuery && !activeTag) || searchLoading || !searchHasMore) {
       return
     }
     try {
       setSearchLoading(true)
+      if (activeTag) {
+        const response = await postsApi.fetchList({
+          tag: activeTag,
+          cursor: searchCursor ?? undefined,
+          size: 10,
+        })
+        setSearchResults((prev) => [...prev, ...response.items])
+        setSearchCursor(response.nextCursor)
+        setSearchHasMore(response.nextCursor !== null)
+        return
+      }
       const response = await postsApi.fetchList({ keyword: trimmedQuery, page: searchPage, size: 10 })
       setSearchResults((prev) => [...prev, ...response.items])
       setSearchPage((prev) => prev + 1)
@@ -104,6 +148,9 @@ const HomePage = () => {
   }
 
   const topPosts = useMemo(() => {
+    if (trendingPosts.length > 0) {
+      return trendingPosts
+    }
     return [...latestPosts]
       .sort((a, b) => {
         const likesA = typeof a.likes === 'number' ? a.likes : 0
@@ -119,9 +166,12 @@ const HomePage = () => {
         return new Date(b.publishedAt).getTime() - new Date(a.publishedAt).getTime()
       })
       .slice(0, 10)
-  }, [latestPosts])
+  }, [latestPosts, trendingPosts])
 
   const suggestedTags = useMemo(() => {
+    if (popularTags.length > 0) {
+      return popularTags.map((tag) => tag.name)
+    }
     const counter = new Map<string, number>()
     latestPosts.forEach((post) => {
       post.tags.forEach((tag) => {
@@ -135,15 +185,17 @@ const HomePage = () => {
     const defaults = ['spring', 'react', 'devops', 'database', 'ai']
     const combined = [...defaults, ...counter.keys()].map((tag) => tag.toLowerCase())
     return [...new Set(combined)].slice(0, 12)
-  }, [latestPosts])
+  }, [latestPosts, popularTags])
 
-  const showingSearch = trimmedQuery.length > 0
+  const showingSearch = trimmedQuery.length > 0 || activeTag !== null
   const visiblePosts = showingSearch ? searchResults : topPosts
   const isLoading = showingSearch ? searchLoading : isLoadingLatest
   const currentError = showingSearch ? searchError : latestError
   const showNoResult = !isLoading && visiblePosts.length === 0
   const sectionTitle = showingSearch ? '검색 결과' : '상위 10개 포스트'
-  const sectionSubtitle = showingSearch
+  const sectionSubtitle = activeTag
+    ? `#${activeTag} 태그가 달린 포스트를 확인하세요.`
+    : showingSearch
     ? `'${trimmedQuery}' 검색 결과를 확인하세요.`
     : 'DevNest 커뮤니티에서 최근 게시된 인기 글을 확인해 보세요.'
 
@@ -180,7 +232,10 @@ const HomePage = () => {
             <span className="sr-only">포스트 검색</span>
             <input
               value={query}
-              onChange={(event) => setQuery(event.target.value)}
+              onChange={(event) => {
+                setActiveTag(null)
+                setQuery(event.target.value)
+              }}
               type="search"
               placeholder="키워드 또는 태그로 포스트를 검색하세요 (예: spring, devops)"
               className="flex-1 bg-transparent text-sm text-slate-200 placeholder:text-slate-500 focus:outline-none"
@@ -191,8 +246,13 @@ const HomePage = () => {
               <button
                 key={tag}
                 type="button"
-                onClick={() => setQuery(tag)}
-                className="rounded-full border border-slate-700 px-3 py-1 transition-colors hover:border-emerald-400 hover:text-emerald-300"
+                onClick={() => {
+                  setQuery('')
+                  setActiveTag((current) => (current === tag ? null : tag))
+                }}
+                className={`rounded-full border px-3 py-1 transition-colors hover:border-emerald-400 hover:text-emerald-300 ${
+                  activeTag === tag ? 'border-emerald-400 text-emerald-300' : 'border-slate-700'
+                }`}
               >
                 #{tag}
               </button>
@@ -279,6 +339,19 @@ const HomePage = () => {
                       </svg>
                       {post.likes.toLocaleString()} likes
                     </span>
+                    <span className="inline-flex items-center gap-1 rounded-full border border-slate-700 px-2 py-1 transition-colors group-hover:border-emerald-400/60 group-hover:text-emerald-300">
+                      <svg
+                        xmlns="http://www.w3.org/2000/svg"
+                        viewBox="0 0 24 24"
+                        fill="none"
+                        stroke="currentColor"
+                        strokeWidth="1.6"
+                        className="h-3.5 w-3.5"
+                      >
+                        <path d="M21 12a8 8 0 0 1-11.6 7.1L4 21l1.9-5.4A8 8 0 1 1 21 12Z" />
+                      </svg>
+                      {(post.commentsCount ?? 0).toLocaleString()} comments
+                    </span>
                     {post.tags.map((tag) => (
                       <span
                         key={tag}
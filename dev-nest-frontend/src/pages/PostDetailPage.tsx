@@ -79,15 +79,8 @@ const PostDetailPage = () => {
     if (!postId) {
       return
     }
-    if (!accessToken) {
-      setEngagement({
-        likes: post.likes,
-        views: post.views,
-        liked: false,
-      })
-      return
-    }
 
+    // A revalidated detail can carry stale counts, so live numbers always come from the engagement endpoint.
     let cancelled = false
     ;(async () => {
       try {
@@ -169,7 +162,11 @@ const PostDetailPage = () => {
   }
 
   const postContent = post?.content ?? ''
-  const contentHtml = useMemo(() => renderMarkdown(postContent), [postContent])
+  const serverHtml = post?.contentHtml ?? null
+  const contentHtml = useMemo(
+    () => serverHtml ?? renderMarkdown(postContent),
+    [serverHtml, postContent],
+  )
 
   const displayViews = engagement?.views ?? (post ? post.views : 0)
   const displayLikes = engagement?.likes ?? (post ? post.likes : 0)
@@ -227,6 +224,9 @@ const PostDetailPage = () => {
                   좋아요 {displayLikes.toLocaleString()}
                 </span>
               </button>
+              <span className="rounded-full border border-slate-700 px-3 py-1">
+                댓글 {(post.commentsCount ?? 0).toLocaleString()}
+              </span>
             </div>
             <h1 className="text-3xl font-semibold text-white sm:text-4xl">
               {post.title}
@@ -15,11 +15,20 @@ export type Comment = {
   author: CommentAuthor
   likeCount: number
   liked: boolean
+  reactions: number[]
+  myReactions: number
   createdAt: string
   updatedAt: string
+  replyCount: number
   replies: Comment[]
 }
 
+export type CommentPage = {
+  items: Comment[]
+  nextCursor: string | null
+  totalCount: number | null
+}
+
 export type CreateCommentPayload = {
   body: string
   parentCommentId?: number
@@ -32,8 +41,20 @@ export type UpdateCommentPayload = {
 export type CommentReaction = {
   likeCount: number
   liked: boolean
+  reactions: number[]
+  myReactions: number
 }
 
+// Same order as the server's histogram slots and mask bits.
+export const COMMENT_REACTIONS = [
+  { code: 'like', emoji: '👍' },
+  { code: 'heart', emoji: '❤️' },
+  { code: 'laugh', emoji: '😂' },
+  { code: 'wow', emoji: '😮' },
+  { code: 'sad', emoji: '😢' },
+  { code: 'celebrate', emoji: '🎉' },
+] as const
+
 export type UserComment = {
   id: number
   postId: number | null
@@ -82,18 +103,41 @@ const handleResponse = async <T>(response: Response): Promise<T> => {
 }
 
 export const commentsApi = {
-  async fetchComments(postId: number, accessToken?: string): Promise<Comment[]> {
+  async fetchComments(
+    postId: number,
+    accessToken?: string,
+    cursor?: string | null,
+  ): Promise<CommentPage> {
+    const headers: Record<string, string> = {
+      Accept: 'application/json',
+      ...createAuthHeaders(accessToken),
+    }
+    const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : ''
+    const response = await fetch(
+      `${API_BASE_URL}/api/posts/${postId}/comments${query}`,
+      {
+        headers,
+      },
+    )
+    return handleResponse<CommentPage>(response)
+  },
+  async fetchReplies(
+    commentId: number,
+    accessToken?: string,
+    cursor?: string | null,
+  ): Promise<CommentPage> {
     const headers: Record<string, string> = {
       Accept: 'application/json',
       ...createAuthHeaders(accessToken),
     }
+    const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : ''
     const response = await fetch(
-      `${API_BASE_URL}/api/posts/${postId}/comments`,
+      `${API_BASE_URL}/api/comments/${commentId}/replies${query}`,
       {
         headers,
       },
     )
-    return handleResponse<Comment[]>(response)
+    return handleResponse<CommentPage>(response)
   },
   async createComment(
     postId: number,
@@ -160,6 +204,39 @@ export const commentsApi = {
     })
     return handleResponse<CommentReaction>(response)
   },
+  async addReaction(
+    commentId: number,
+    reaction: string,
+    accessToken: string,
+  ): Promise<CommentReaction> {
+    const response = await fetch(
+      `${API_BASE_URL}/api/comments/${commentId}/reactions/${reaction}`,
+      {
+        method: 'POST',
+        headers: {
+          ...jsonHeaders,
+          ...createAuthHeaders(accessToken),
+        },
+      },
+    )
+    return handleResponse<CommentReaction>(response)
+  },
+  async removeReaction(
+    commentId: number,
+    reaction: string,
+    accessToken: string,
+  ): Promise<CommentReaction> {
+    const response = await fetch(
+      `${API_BASE_URL}/api/comments/${commentId}/reactions/${reaction}`,
+      {
+        method: 'DELETE',
+        headers: {
+          ...createAuthHeaders(accessToken),
+        },
+      },
+    )
+    return handleResponse<CommentReaction>(response)
+  },
   async fetchMyComments(
     accessToken: string,
     params: { page?: number; size?: number } = {},
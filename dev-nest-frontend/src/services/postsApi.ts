@@ -9,6 +9,8 @@ export type PostSummary = {
   authorName: string
   views: number
   likes: number
+  commentsCount: number
+  lastCommentAt: string | null
   publishedAt: string
   updatedAt: string
 }
@@ -19,6 +21,7 @@ export type PostDetail = {
   slug: string
   summary: string | null
   content: string
+  contentHtml: string | null
   tags: string[]
   heroImageUrl: string | null
   author: {
@@ -28,6 +31,8 @@ export type PostDetail = {
   }
   views: number
   likes: number
+  commentsCount: number
+  lastCommentAt: string | null
   publishedAt: string
   updatedAt: string
 }
@@ -46,6 +51,18 @@ export type PostListResponse = {
   size: number
   totalViews: number
   totalLikes: number
+  nextCursor: string | null
+  likedPostIds?: number[] | null
+}
+
+export type PostEngagementItem = PostEngagement & {
+  postId: number
+}
+
+export type TagSummary = {
+  name: string
+  slug: string
+  postCount: number
 }
 
 export type CreatePostPayload = {
@@ -85,19 +102,35 @@ export const postsApi = {
     )
     return handleResponse<PostSummary[]>(response)
   },
-  async fetchList(params: { page?: number; size?: number; keyword?: string } = {}): Promise<PostListResponse> {
+  async fetchList(
+    params: { page?: number; size?: number; keyword?: string; tag?: string; cursor?: string } = {},
+  ): Promise<PostListResponse> {
     const search = new URLSearchParams()
     if (typeof params.page === 'number') search.set('page', String(params.page))
     if (typeof params.size === 'number') search.set('size', String(params.size))
     if (params.keyword && params.keyword.trim()) {
       search.set('keyword', params.keyword.trim())
     }
+    if (params.tag && params.tag.trim()) {
+      search.set('tag', params.tag.trim())
+    }
+    if (params.cursor) {
+      search.set('cursor', params.cursor)
+    }
     const query = search.toString()
     const response = await fetch(
       `${API_BASE_URL}/api/posts${query ? `?${query}` : ''}`,
     )
     return handleResponse<PostListResponse>(response)
   },
+  async fetchTrending(window: 'day' | 'week' | 'month' = 'week', limit = 10): Promise<PostSummary[]> {
+    const response = await fetch(`${API_BASE_URL}/api/posts/trending?window=${window}&limit=${limit}`)
+    return handleResponse<PostSummary[]>(response)
+  },
+  async fetchTags(limit = 12): Promise<TagSummary[]> {
+    const response = await fetch(`${API_BASE_URL}/api/tags?limit=${limit}`)
+    return handleResponse<TagSummary[]>(response)
+  },
   async fetchBySlug(slug: string): Promise<PostDetail> {
     const response = await fetch(`${API_BASE_URL}/api/posts/slug/${slug}`)
     return handleResponse<PostDetail>(response)
@@ -156,6 +189,22 @@ export const postsApi = {
     })
     return handleResponse<PostEngagement>(response)
   },
+  async fetchEngagements(postIds: number[], accessToken?: string): Promise<PostEngagementItem[]> {
+    if (postIds.length === 0) {
+      return []
+    }
+    const headers: Record<string, string> = {
+      Accept: 'application/json',
+    }
+    if (accessToken) {
+      headers.Authorization = `Bearer ${accessToken}`
+    }
+    const response = await fetch(
+      `${API_BASE_URL}/api/posts/engagement?ids=${postIds.map(String).join(',')}`,
+      { headers },
+    )
+    return handleResponse<PostEngagementItem[]>(response)
+  },
   async likePost(postId: number, accessToken: string): Promise<PostEngagement> {
     const response = await fetch(`${API_BASE_URL}/api/posts/${postId}/likes`, {
       method: 'POST',